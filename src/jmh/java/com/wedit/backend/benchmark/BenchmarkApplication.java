@@ -0,0 +1,130 @@
+package com.wedit.backend.benchmark;
+
+import com.wedit.backend.api.aws.s3.service.S3Service;
+import com.wedit.backend.api.contract.repository.ContractRepository;
+import com.wedit.backend.api.contract.availability.ProductAvailabilityIndex;
+import com.wedit.backend.api.contract.hold.SlotHoldTimer;
+import com.wedit.backend.api.contract.service.ContractService;
+import com.wedit.backend.api.media.repository.MediaRepository;
+import com.wedit.backend.api.media.service.MediaService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.CoupleService;
+import com.wedit.backend.api.reservation.availability.ConsultationAvailabilityCounter;
+import com.wedit.backend.api.reservation.repository.ReservationRepository;
+import com.wedit.backend.api.reservation.service.ReservationService;
+import com.wedit.backend.api.reservation.template.SlotTemplateCalendar;
+import com.wedit.backend.api.review.repository.ReviewRepository;
+import com.wedit.backend.api.vendor.aggregate.VendorPriceAggregator;
+import com.wedit.backend.api.vendor.attribute.ProductAttributeRenderer;
+import com.wedit.backend.api.vendor.autocomplete.NameAutocompleteIndex;
+import com.wedit.backend.api.vendor.detail.VendorDetailSnapshotCache;
+import com.wedit.backend.api.vendor.region.RegionTree;
+import com.wedit.backend.api.vendor.repository.VendorProductQueryRepository;
+import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.api.vendor.search.VendorSearchIndex;
+import com.wedit.backend.api.vendor.service.ProductService;
+import com.wedit.backend.api.vendor.service.VendorService;
+import com.wedit.backend.api.vendor.trending.TrendingVendorRanking;
+import com.wedit.backend.common.config.queryDSL.QueryDSLConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 최소 애플리케이션 컨텍스트
+ * 업체 검색 / 상품 조회 / 슬롯 예약 / 커플 연동에 필요한 빈만 올리고, 보안 / 외부 연동(S3 실제 호출, Firebase 등)은 제외합니다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EnableJpaAuditing
+@EntityScan(basePackages = "com.wedit.backend")
+@EnableJpaRepositories(basePackageClasses = {VendorRepository.class, MediaRepository.class, ReviewRepository.class,
+        MemberRepository.class, ReservationRepository.class, ContractRepository.class})
+@ComponentScan(basePackageClasses = {
+        VendorService.class,
+        VendorProductQueryRepository.class,
+        VendorSearchIndex.class,
+        RegionTree.class,
+        NameAutocompleteIndex.class,
+        TrendingVendorRanking.class,
+        VendorDetailSnapshotCache.class,
+        ProductAttributeRenderer.class,
+        VendorPriceAggregator.class,
+        ReservationService.class,
+        ConsultationAvailabilityCounter.class,
+        SlotTemplateCalendar.class,
+        ContractService.class,
+        SlotHoldTimer.class,
+        ProductAvailabilityIndex.class,
+        MediaService.class,
+        S3Service.class,
+        QueryDSLConfig.class
+})
+// member.service 패키지는 SMS / JWT 연동 빈이 있어 스캔하지 않고 CoupleService 만 등록
+@Import({SyntheticDataSeeder.class, CoupleService.class})
+public class BenchmarkApplication {
+
+    // CDN URL 변환만 사용하므로 실제 자격 증명 없이 생성
+    @Bean
+    public S3Client s3Client() {
+        return S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(AnonymousCredentialsProvider.create())
+                .build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(AnonymousCredentialsProvider.create())
+                .build();
+    }
+
+    /**
+     * 컨텍스트를 띄우고 합성 데이터를 적재합니다.
+     *
+     * @param properties 벤치마크 파라미터별 설정 (key=value)
+     */
+    public static ConfigurableApplicationContext start(int vendorCount, String... properties) {
+        return start(vendorCount, List.of(), properties);
+    }
+
+    /**
+     * @param additionalSources 벤치마크별로 추가할 빈 (eg. 계측용 BeanPostProcessor)
+     */
+    public static ConfigurableApplicationContext start(int vendorCount, List<Class<?>> additionalSources,
+                                                       String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .sources(additionalSources.toArray(Class<?>[]::new))
+                .profiles("benchmark")
+                .properties(properties)
+                .run();
+        context.getBean(SyntheticDataSeeder.class).seed(vendorCount);
+        // 합성 상품은 기동 후 적재되므로 속성 문서를 직접 백필
+        ProductService productService = context.getBean(ProductService.class);
+        while (productService.backfillAttributesJson(500) == 500) {
+            // 남은 대상이 없을 때까지 반복
+        }
+        // 가격 집계도 같은 이유로 직접 백필 (기동 시 백필 러너는 빈 테이블 기준으로 끝남)
+        VendorPriceAggregator vendorPriceAggregator = context.getBean(VendorPriceAggregator.class);
+        while (vendorPriceAggregator.backfillMissing(500) == 500) {
+            // 남은 대상이 없을 때까지 반복
+        }
+        vendorPriceAggregator.markReady();
+        return context;
+    }
+}
@@ -0,0 +1,168 @@
+package com.wedit.backend.benchmark;
+
+import com.wedit.backend.api.contract.dto.ContractCreateRequestDTO;
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import com.wedit.backend.api.contract.service.ContractService;
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.reservation.dto.ReservationRequestDTO;
+import com.wedit.backend.api.reservation.entity.ConsultationSlot;
+import com.wedit.backend.api.reservation.repository.ConsultationSlotRepository;
+import com.wedit.backend.api.reservation.service.ReservationService;
+import com.wedit.backend.api.vendor.entity.AvailableSlot;
+import com.wedit.backend.api.vendor.entity.Product;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.repository.ProductRepository;
+import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.common.booking.SlotBookingStrategy;
+import com.wedit.backend.common.exception.BadRequestException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 슬롯 예약 경합 비교 (비관적 락 / 조건부 UPDATE)
+ * 한 번의 측정마다 새 슬롯 1개를 만들고 contenders 개 스레드가 동시에 예약을 시도합니다.
+ * 측정값은 모든 요청이 성공/실패로 끝날 때까지의 시간이며, 성공이 정확히 1건이 아니면 실패로 처리합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingContentionBenchmark {
+
+    private static final int VENDOR_COUNT = 10;
+
+    @Param({"PESSIMISTIC_LOCK", "CONDITIONAL_UPDATE"})
+    public SlotBookingStrategy strategy;
+
+    @Param({"16"})
+    public int contenders;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private ContractService contractService;
+    private ConsultationSlotRepository consultationSlotRepository;
+    private AvailableSlotRepository availableSlotRepository;
+    private ExecutorService executor;
+
+    private Vendor vendor;
+    private Product product;
+    private final List<Long> memberIds = new ArrayList<>();
+    private LocalDateTime nextStartTime = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private Long consultationSlotId;
+    private Long availableSlotId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(VENDOR_COUNT,
+                "booking.strategy.consultation=" + strategy,
+                "booking.strategy.contract=" + strategy);
+        reservationService = context.getBean(ReservationService.class);
+        contractService = context.getBean(ContractService.class);
+        consultationSlotRepository = context.getBean(ConsultationSlotRepository.class);
+        availableSlotRepository = context.getBean(AvailableSlotRepository.class);
+
+        Long vendorId = context.getBean(SyntheticDataSeeder.class).getVendorIds().get(0);
+        vendor = context.getBean(VendorRepository.class).findById(vendorId).orElseThrow();
+        product = context.getBean(ProductRepository.class).findAllByVendorIdIn(List.of(vendorId)).get(0);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        for (int i = 0; i < contenders; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("booking-" + i + "@benchmark.local")
+                    .name("경합" + i)
+                    .role(Role.ROLE_USER)
+                    .build());
+            memberIds.add(member.getId());
+        }
+
+        executor = Executors.newFixedThreadPool(contenders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    // 측정마다 아직 예약되지 않은 새 슬롯 준비 (측정 시간에서 제외)
+    @Setup(Level.Invocation)
+    public void newSlots() {
+        LocalDateTime startTime = nextStartTime;
+        nextStartTime = nextStartTime.plusHours(1);
+
+        consultationSlotId = consultationSlotRepository.save(ConsultationSlot.builder()
+                .vendor(vendor)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build()).getId();
+        availableSlotId = availableSlotRepository.save(AvailableSlot.builder()
+                .product(product)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(product.getDurationInMinutes()))
+                .build()).getId();
+    }
+
+    @Benchmark
+    public int consultationSlot() throws Exception {
+        return contend(consultationSlotId, (memberId, slotId) ->
+                reservationService.createReservation(memberId, new ReservationRequestDTO(slotId, null, null)));
+    }
+
+    @Benchmark
+    public int contractSlot() throws Exception {
+        return contend(availableSlotId, (memberId, slotId) ->
+                contractService.createContract(memberId, new ContractCreateRequestDTO(slotId, null, null)));
+    }
+
+    // 모든 스레드를 동시에 출발시키고, 성공한 예약 수를 반환
+    private int contend(Long slotId, BiConsumer<Long, Long> booking) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(contenders);
+        for (Long memberId : memberIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    booking.accept(memberId, slotId);
+                    return true;
+                } catch (BadRequestException | ConcurrencyFailureException e) {
+                    // 경쟁에서 진 요청 (H2 는 0 row 대신 동시 갱신 충돌로 실패시키기도 함)
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                winners++;
+            }
+        }
+        if (winners != 1) {
+            throw new IllegalStateException("슬롯 " + slotId + " 예약 성공 건수가 1 이 아닙니다: " + winners);
+        }
+        return winners;
+    }
+}
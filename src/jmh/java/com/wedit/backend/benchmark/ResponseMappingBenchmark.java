@@ -0,0 +1,109 @@
+package com.wedit.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wedit.backend.api.vendor.dto.response.ProductResponseDTO;
+import com.wedit.backend.api.vendor.dto.response.VendorDetailResponseDTO;
+import com.wedit.backend.api.vendor.region.RegionSelection;
+import com.wedit.backend.api.vendor.repository.VendorProductQueryRepository;
+import com.wedit.backend.api.vendor.search.VendorSearchHit;
+import com.wedit.backend.api.vendor.service.ProductService;
+import com.wedit.backend.api.vendor.service.VendorService;
+import com.wedit.backend.common.response.ApiResponse;
+import com.wedit.backend.common.response.SuccessStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 DTO 변환과 ApiResponse JSON 직렬화 비용 측정 (DB 접근 없음)
+ * 변환/직렬화 대상은 Setup 에서 한 번 조회해 둔 전체 웨딩홀 검색 결과와 업체 1곳의 상품 목록입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"1000"})
+    public int vendorCount;
+
+    private ConfigurableApplicationContext context;
+    private VendorService vendorService;
+    private ObjectMapper objectMapper;
+    private MethodHandle convertToProductResponseDTO;
+
+    private List<VendorSearchHit> searchRows;
+    private ApiResponse<List<ProductResponseDTO>> searchResponse;
+    private ApiResponse<List<VendorDetailResponseDTO.ProductSummaryDTO>> productSummaryResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        context = BenchmarkApplication.start(vendorCount);
+        // 트랜잭션 프록시가 아닌 실제 빈 (private 메서드는 프록시에서 위임되지 않음)
+        VendorService bean = context.getBean(VendorService.class);
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        vendorService = (target != null) ? (VendorService) target : bean;
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        // VendorService 내부 변환 메서드 (private) 를 직접 호출
+        convertToProductResponseDTO = MethodHandles.privateLookupIn(VendorService.class, MethodHandles.lookup())
+                .findVirtual(VendorService.class, "convertToProductResponseDTO",
+                        MethodType.methodType(ProductResponseDTO.class, VendorSearchHit.class));
+
+        searchRows = context.getBean(VendorProductQueryRepository.class)
+                .searchWeddingHallVendors(RegionSelection.all(), null, null, null, null, null);
+        searchResponse = ApiResponse.success(SuccessStatus.CONDITION_SEARCH_SUCCESS, mapSearchRows()).getBody();
+
+        Long vendorId = context.getBean(SyntheticDataSeeder.class).getVendorIds().get(0);
+        productSummaryResponse = ApiResponse.success(SuccessStatus.CONDITION_SEARCH_SUCCESS,
+                context.getBean(ProductService.class).getProductsByVendorId(vendorId)).getBody();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> convertSearchRows() {
+        return mapSearchRows();
+    }
+
+    @Benchmark
+    public byte[] serializeSearchResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(searchResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeProductSummaries() throws Exception {
+        return objectMapper.writeValueAsBytes(productSummaryResponse);
+    }
+
+    private List<ProductResponseDTO> mapSearchRows() {
+        List<ProductResponseDTO> result = new ArrayList<>(searchRows.size());
+        try {
+            for (VendorSearchHit row : searchRows) {
+                result.add((ProductResponseDTO) convertToProductResponseDTO.invoke(
+                        vendorService, row));
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+}
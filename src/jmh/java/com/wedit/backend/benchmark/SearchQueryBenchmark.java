@@ -0,0 +1,92 @@
+package com.wedit.backend.benchmark;
+
+import com.wedit.backend.api.vendor.dto.response.VendorDetailResponseDTO;
+import com.wedit.backend.api.vendor.entity.enums.HallMeal;
+import com.wedit.backend.api.vendor.entity.enums.HallStyle;
+import com.wedit.backend.api.vendor.region.RegionSelection;
+import com.wedit.backend.api.vendor.repository.VendorProductQueryRepository;
+import com.wedit.backend.api.vendor.search.VendorSearchHit;
+import com.wedit.backend.api.vendor.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웨딩홀 조건 검색 QueryDSL / JPQL 경로와 업체 상품 목록 조회 비교
+ * 같은 조건(시/군/구 3개 + 스타일 + 식사 + 수용 인원 + 가격)을 두 쿼리 경로에 동일하게 전달합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchQueryBenchmark {
+
+    @Param({"1000"})
+    public int vendorCount;
+
+    private ConfigurableApplicationContext context;
+    private VendorProductQueryRepository queryRepository;
+    private ProductService productService;
+
+    private RegionSelection regionSelection;
+    private List<Long> vendorIds;
+    private int nextVendor = 0;
+
+    private static final Integer PRICE = 25_000_000;
+    private static final List<HallStyle> HALL_STYLES = List.of(HallStyle.values()[0], HallStyle.values()[1]);
+    private static final List<HallMeal> HALL_MEALS = List.of(HallMeal.values()[0]);
+    private static final Integer CAPACITY = 200;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(vendorCount);
+        queryRepository = context.getBean(VendorProductQueryRepository.class);
+        productService = context.getBean(ProductService.class);
+
+        SyntheticDataSeeder seeder = context.getBean(SyntheticDataSeeder.class);
+        regionSelection = new RegionSelection(List.of(), seeder.getRegion2Codes().subList(0, 3));
+        vendorIds = seeder.getVendorIds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<VendorSearchHit> weddingHallQueryDsl() {
+        return queryRepository.searchWeddingHallVendors(
+                regionSelection, PRICE, HALL_STYLES, HALL_MEALS, CAPACITY, null);
+    }
+
+    // 하객수 조건이 없으면 가격 집계 테이블로 조회
+    @Benchmark
+    public List<VendorSearchHit> weddingHallPriceAggregate() {
+        return queryRepository.searchWeddingHallVendors(
+                regionSelection, PRICE, HALL_STYLES, HALL_MEALS, null, null);
+    }
+
+    @Benchmark
+    public List<VendorSearchHit> weddingHallJpql() {
+        return queryRepository.searchWeddingHallVendorsWithJPA(
+                regionSelection, PRICE, HALL_STYLES, HALL_MEALS, CAPACITY, null);
+    }
+
+    // 상품 목록 + 이미지 조회 후 상품 타입별 상세 Map 구성
+    @Benchmark
+    public List<VendorDetailResponseDTO.ProductSummaryDTO> productSummaries() {
+        Long vendorId = vendorIds.get(nextVendor);
+        nextVendor = (nextVendor + 1) % vendorIds.size();
+        return productService.getProductsByVendorId(vendorId);
+    }
+}
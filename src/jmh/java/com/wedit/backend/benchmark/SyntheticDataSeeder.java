@@ -0,0 +1,136 @@
+package com.wedit.backend.benchmark;
+
+import com.wedit.backend.api.media.entity.Media;
+import com.wedit.backend.api.media.entity.enums.MediaDomain;
+import com.wedit.backend.api.media.entity.enums.MediaType;
+import com.wedit.backend.api.vendor.entity.Region;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.entity.WeddingHallProduct;
+import com.wedit.backend.api.vendor.entity.enums.HallMeal;
+import com.wedit.backend.api.vendor.entity.enums.HallStyle;
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 적재기
+ * 시/도 1개 - 시/군/구 REGION2_COUNT 개 - 읍/면/동 (시/군/구당 REGION3_PER_REGION2 개) 지역에
+ * 웨딩홀 업체 vendorCount 개, 업체당 PRODUCTS_PER_VENDOR 개 상품, 상품당 IMAGES_PER_PRODUCT 개 이미지를 고정 seed 로 생성합니다.
+ */
+public class SyntheticDataSeeder {
+
+    static final int REGION2_COUNT = 25;
+    static final int REGION3_PER_REGION2 = 10;
+    static final int PRODUCTS_PER_VENDOR = 3;
+    static final int IMAGES_PER_PRODUCT = 2;
+
+    private static final int FLUSH_SIZE = 500;
+    private static final long SEED = 29L;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<Long> vendorIds = new ArrayList<>();
+    private final List<String> region2Codes = new ArrayList<>();
+    private final List<String> region3Codes = new ArrayList<>();
+
+    public SyntheticDataSeeder(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void seed(int vendorCount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Random random = new Random(SEED);
+            List<Region> level3Regions = seedRegions();
+
+            HallStyle[] styles = HallStyle.values();
+            HallMeal[] meals = HallMeal.values();
+            int pending = 0;
+            for (int i = 0; i < vendorCount; i++) {
+                Region region = level3Regions.get(random.nextInt(level3Regions.size()));
+                Vendor vendor = Vendor.builder()
+                        .name("벤치마크 웨딩홀 " + i)
+                        .fullAddress("서울특별시 벤치마크로 " + i)
+                        .vendorType(VendorType.WEDDING_HALL)
+                        .region(region)
+                        .latitude(37.4 + random.nextDouble() * 0.3)
+                        .longitude(126.8 + random.nextDouble() * 0.4)
+                        .build();
+                entityManager.persist(vendor);
+                vendorIds.add(vendor.getId());
+
+                for (int p = 0; p < PRODUCTS_PER_VENDOR; p++) {
+                    WeddingHallProduct product = WeddingHallProduct.builder()
+                            .vendor(vendor)
+                            .name("홀 " + p)
+                            .basePrice(5_000_000L + random.nextInt(300) * 100_000L)
+                            .description("벤치마크 상품")
+                            .durationInMinutes(90)
+                            .hallStyle(styles[random.nextInt(styles.length)])
+                            .hallMeal(meals[random.nextInt(meals.length)])
+                            .capacity(100 + random.nextInt(400))
+                            .hasParking(random.nextBoolean())
+                            .build();
+                    entityManager.persist(product);
+
+                    for (int m = 0; m < IMAGES_PER_PRODUCT; m++) {
+                        entityManager.persist(Media.builder()
+                                .ownerDomain(MediaDomain.PRODUCT)
+                                .ownerId(product.getId())
+                                .mediaKey("product/" + product.getId() + "/" + m + ".jpg")
+                                .contentType("image/jpeg")
+                                .mediaType(MediaType.IMAGE)
+                                .sortOrder(m)
+                                .build());
+                    }
+                }
+
+                if (++pending == FLUSH_SIZE) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    pending = 0;
+                }
+            }
+        });
+    }
+
+    public List<Long> getVendorIds() {
+        return vendorIds;
+    }
+
+    public List<String> getRegion2Codes() {
+        return region2Codes;
+    }
+
+    public List<String> getRegion3Codes() {
+        return region3Codes;
+    }
+
+    private List<Region> seedRegions() {
+        Region level1 = Region.builder().name("서울특별시").code("11").level(1).build();
+        entityManager.persist(level1);
+
+        List<Region> level3Regions = new ArrayList<>();
+        for (int i = 0; i < REGION2_COUNT; i++) {
+            String code2 = "11" + String.format("%03d", 110 + i * 10);
+            Region level2 = Region.builder().name("구" + i).code(code2).level(2).parent(level1).build();
+            entityManager.persist(level2);
+            region2Codes.add(code2);
+
+            for (int j = 0; j < REGION3_PER_REGION2; j++) {
+                String code3 = code2 + String.format("%05d", 10100 + j * 100);
+                Region level3 = Region.builder().name("동" + i + "-" + j).code(code3).level(3).parent(level2).build();
+                entityManager.persist(level3);
+                region3Codes.add(code3);
+                level3Regions.add(level3);
+            }
+        }
+        return level3Regions;
+    }
+}
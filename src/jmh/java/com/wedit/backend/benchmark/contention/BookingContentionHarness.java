@@ -0,0 +1,620 @@
+package com.wedit.backend.benchmark.contention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wedit.backend.api.contract.dto.ContractCreateRequestDTO;
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import com.wedit.backend.api.contract.service.ContractService;
+import com.wedit.backend.api.member.entity.Couple;
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.entity.Type;
+import com.wedit.backend.api.member.repository.CoupleRepository;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.CoupleService;
+import com.wedit.backend.api.reservation.dto.ReservationRequestDTO;
+import com.wedit.backend.api.reservation.entity.ConsultationSlot;
+import com.wedit.backend.api.reservation.entity.SlotStatus;
+import com.wedit.backend.api.reservation.repository.ConsultationSlotRepository;
+import com.wedit.backend.api.reservation.service.ReservationService;
+import com.wedit.backend.api.vendor.entity.AvailableSlot;
+import com.wedit.backend.api.vendor.entity.Product;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus;
+import com.wedit.backend.api.vendor.repository.ProductRepository;
+import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.benchmark.BenchmarkApplication;
+import com.wedit.backend.benchmark.SyntheticDataSeeder;
+import com.wedit.backend.common.booking.SlotBookingStrategy;
+import com.wedit.backend.common.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 슬롯 예약 / 커플 연동 동시성 경합 하네스 (./gradlew bookingContention)
+ *
+ * 라운드마다 hot set(슬롯 또는 커플 코드)을 새로 만들고, 가상 스레드 threads 개가 동시에 출발해
+ * createReservation / createContract / connectWithCode 를 hot set 에 고르게 나누어 호출합니다.
+ * - 처리량, 요청 지연 p50/p99/p999 및 히스토그램, 락 획득 쿼리 소요 시간(LockWaitRecorder)
+ * - 데드락 / 락 타임아웃 횟수, 재시도 횟수 (ConcurrencyFailureException 은 maxRetries 까지 재시도)
+ * - 라운드 종료 후 DB 를 다시 읽어 한 대상에 성공이 2건 이상이거나 슬롯 상태와 예약 수가 어긋나면 위반으로 기록
+ * 위반 또는 예상하지 못한 예외가 있으면 종료 코드 1 로 끝나 Gradle 태스크가 실패합니다.
+ */
+public final class BookingContentionHarness {
+
+    private static final int VENDOR_COUNT = 10;
+
+    private final Options options;
+    private final ConfigurableApplicationContext context;
+    private final LockWaitRecorder lockWaitRecorder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MemberRepository memberRepository;
+
+    private LocalDateTime nextStartTime = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private BookingContentionHarness(Options options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.context = context;
+        this.lockWaitRecorder = context.getBean(LockWaitRecorder.class);
+        this.entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        this.memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        // 내장 H2 는 락 대기 중에도 synchronized 로 캐리어 스레드를 점유(pinning)하므로,
+        // 캐리어 수가 커넥션 수보다 적으면 락을 가진 트랜잭션이 실행되지 못하고 타임아웃까지 멈출 수 있음
+        if (System.getProperty("jdk.virtualThreadScheduler.parallelism") == null) {
+            System.setProperty("jdk.virtualThreadScheduler.parallelism",
+                    String.valueOf(Math.max(Runtime.getRuntime().availableProcessors(), options.poolSize() + 1)));
+        }
+
+        ConfigurableApplicationContext context = BenchmarkApplication.start(VENDOR_COUNT, List.of(LockWaitRecorder.class),
+                "booking.strategy.consultation=" + options.strategy(),
+                "booking.strategy.contract=" + options.strategy(),
+                "spring.datasource.url=jdbc:h2:mem:contention;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                        + "LOCK_TIMEOUT=" + options.lockTimeoutMillis(),
+                "spring.datasource.hikari.maximum-pool-size=" + options.poolSize(),
+                // 수천 개 요청이 커넥션을 기다리므로 풀 대기로는 실패하지 않도록
+                "spring.datasource.hikari.connection-timeout=600000");
+
+        int violations;
+        boolean unexpectedErrors;
+        try {
+            BookingContentionHarness harness = new BookingContentionHarness(options, context);
+            List<ScenarioResult> results = harness.run();
+            harness.writeResults(results);
+            violations = results.stream().mapToInt(result -> result.violations().size()).sum();
+            unexpectedErrors = results.stream().anyMatch(result -> result.errors() > 0);
+        } finally {
+            context.close();
+        }
+
+        if (violations > 0 || unexpectedErrors) {
+            System.err.println("[Contention] 실패 - 중복 예약 위반 " + violations + "건, 예상하지 못한 예외 발생: " + unexpectedErrors);
+            System.exit(1);
+        }
+        System.out.println("[Contention] 통과 - 중복 예약 없음");
+    }
+
+    private List<ScenarioResult> run() throws Exception {
+        List<Scenario<?>> scenarios = new ArrayList<>();
+        List<Long> contenders = createMembers("contender", Type.BRIDE, options.threads());
+        if (options.includes("consultation")) {
+            scenarios.add(new ConsultationScenario(contenders));
+        }
+        if (options.includes("contract")) {
+            scenarios.add(new ContractScenario(contenders));
+        }
+        if (options.includes("couple")) {
+            scenarios.add(new CoupleScenario());
+        }
+
+        System.out.printf("[Contention] strategy=%s, threads=%d, hotSet=%d, rounds=%d, pool=%d, lockTimeout=%dms%n",
+                options.strategy(), options.threads(), options.hotSetSize(), options.rounds(),
+                options.poolSize(), options.lockTimeoutMillis());
+
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario<?> scenario : scenarios) {
+            ScenarioResult result = runScenario(scenario);
+            result.print();
+            results.add(result);
+        }
+        return results;
+    }
+
+    private <K> ScenarioResult runScenario(Scenario<K> scenario) throws Exception {
+        Counters counters = new Counters();
+        LatencyRecorder latencies = new LatencyRecorder();
+        List<String> violations = new ArrayList<>();
+        long wallNanos = 0;
+        lockWaitRecorder.snapshotAndReset();
+
+        for (int round = 0; round < options.rounds(); round++) {
+            List<K> hotSet = scenario.prepare(round);
+            List<Long> members = scenario.contenders(round);
+            Map<K, Queue<Long>> winners = new ConcurrentHashMap<>();
+            hotSet.forEach(target -> winners.put(target, new ConcurrentLinkedQueue<>()));
+
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(options.threads());
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < options.threads(); i++) {
+                    K target = hotSet.get(i % hotSet.size());
+                    Long memberId = members.get(i);
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                            long begin = System.nanoTime();
+                            Outcome outcome = attempt(() -> scenario.book(memberId, target), counters);
+                            latencies.record(System.nanoTime() - begin);
+                            if (outcome == Outcome.WON) {
+                                winners.get(target).add(memberId);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                long roundStart = System.nanoTime();
+                start.countDown();
+                done.await();
+                wallNanos += System.nanoTime() - roundStart;
+            }
+
+            Map<K, List<Long>> roundWinners = new LinkedHashMap<>();
+            hotSet.forEach(target -> roundWinners.put(target, List.copyOf(winners.get(target))));
+            violations.addAll(scenario.verify(roundWinners));
+        }
+
+        return new ScenarioResult(scenario.name(), options.threads() * (long) options.rounds(), wallNanos, counters,
+                latencies.snapshotAndReset(), lockWaitRecorder.snapshotAndReset(), violations);
+    }
+
+    // 경쟁에서 진 요청(이미 예약됨)은 LOST, 일시적 동시성 실패는 maxRetries 까지 재시도
+    private Outcome attempt(Runnable booking, Counters counters) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                booking.run();
+                counters.won.increment();
+                return Outcome.WON;
+            } catch (BadRequestException | DataIntegrityViolationException e) {
+                counters.lost.increment();
+                return Outcome.LOST;
+            } catch (ConcurrencyFailureException e) {
+                if (isDeadlock(e)) {
+                    counters.deadlocks.increment();
+                } else {
+                    counters.lockFailures.increment();
+                }
+                if (attempt >= options.maxRetries()) {
+                    counters.exhausted.increment();
+                    return Outcome.FAILED;
+                }
+                counters.retries.increment();
+            } catch (RuntimeException e) {
+                counters.errors.increment();
+                counters.errorSamples.putIfAbsent(e.getClass().getName(), String.valueOf(e.getMessage()));
+                return Outcome.FAILED;
+            }
+        }
+    }
+
+    private static boolean isDeadlock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeadlockLoserDataAccessException
+                    || (cause instanceof SQLException sql && "40001".equals(sql.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Long> createMembers(String prefix, Type type, int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                    .email(prefix + "-" + i + "@contention.local")
+                    .name(prefix + i)
+                    .role(Role.ROLE_USER)
+                    .type(type)
+                    .build());
+        }
+        return memberRepository.saveAll(members).stream().map(Member::getId).toList();
+    }
+
+    private LocalDateTime nextStartTime() {
+        LocalDateTime startTime = nextStartTime;
+        nextStartTime = nextStartTime.plusHours(1);
+        return startTime;
+    }
+
+    private <T> T query(Function<EntityManager, T> work) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return work.apply(entityManager);
+        }
+    }
+
+    private void writeResults(List<ScenarioResult> results) throws Exception {
+        if (options.output() == null) {
+            return;
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("options", options.toMap());
+        document.put("scenarios", results.stream().map(ScenarioResult::toMap).toList());
+
+        Path path = Path.of(options.output());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), document);
+        System.out.println("[Contention] 결과 저장 - " + path.toAbsolutePath());
+    }
+
+    // --- 시나리오 ---
+
+    private interface Scenario<K> {
+
+        String name();
+
+        // 라운드의 경합 대상 (아직 예약되지 않은 슬롯 / 연동 대기 중인 커플 코드)
+        List<K> prepare(int round);
+
+        // 스레드별 요청 회원 (threads 개)
+        List<Long> contenders(int round);
+
+        void book(Long memberId, K target);
+
+        // 라운드 종료 후 DB 상태 검증 - 위반 내용 목록
+        List<String> verify(Map<K, List<Long>> winners);
+    }
+
+    private final class ConsultationScenario implements Scenario<Long> {
+
+        private final ReservationService reservationService = context.getBean(ReservationService.class);
+        private final ConsultationSlotRepository slotRepository = context.getBean(ConsultationSlotRepository.class);
+        private final Vendor vendor;
+        private final List<Long> contenders;
+
+        ConsultationScenario(List<Long> contenders) {
+            Long vendorId = context.getBean(SyntheticDataSeeder.class).getVendorIds().get(0);
+            this.vendor = context.getBean(VendorRepository.class).findById(vendorId).orElseThrow();
+            this.contenders = contenders;
+        }
+
+        @Override
+        public String name() {
+            return "consultation";
+        }
+
+        @Override
+        public List<Long> prepare(int round) {
+            List<ConsultationSlot> slots = new ArrayList<>();
+            for (int i = 0; i < options.hotSetSize(); i++) {
+                LocalDateTime startTime = nextStartTime();
+                slots.add(ConsultationSlot.builder()
+                        .vendor(vendor)
+                        .startTime(startTime)
+                        .endTime(startTime.plusMinutes(30))
+                        .build());
+            }
+            return slotRepository.saveAll(slots).stream().map(ConsultationSlot::getId).toList();
+        }
+
+        @Override
+        public List<Long> contenders(int round) {
+            return contenders;
+        }
+
+        @Override
+        public void book(Long memberId, Long slotId) {
+            reservationService.createReservation(memberId, new ReservationRequestDTO(slotId, null, null));
+        }
+
+        @Override
+        public List<String> verify(Map<Long, List<Long>> winners) {
+            Map<Long, Long> reservations = query(em -> em.createQuery(
+                            "SELECT r.consultationSlotId, COUNT(r) FROM Reservation r " +
+                                    "WHERE r.consultationSlotId IN :ids GROUP BY r.consultationSlotId", Object[].class)
+                    .setParameter("ids", winners.keySet())
+                    .getResultList()
+                    .stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1])));
+            Map<Long, SlotStatus> statuses = query(em -> em.createQuery(
+                            "SELECT s.id, s.status FROM ConsultationSlot s WHERE s.id IN :ids", Object[].class)
+                    .setParameter("ids", winners.keySet())
+                    .getResultList()
+                    .stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (SlotStatus) row[1])));
+
+            List<String> violations = new ArrayList<>();
+            winners.forEach((slotId, slotWinners) -> {
+                long stored = reservations.getOrDefault(slotId, 0L);
+                boolean booked = statuses.get(slotId) == SlotStatus.BOOKED;
+                if (slotWinners.size() > 1 || stored > 1 || stored != slotWinners.size() || booked != (stored == 1)) {
+                    violations.add("상담 슬롯 " + slotId + " - 성공 " + slotWinners.size() + "건, 예약 row "
+                            + stored + "건, 상태 " + statuses.get(slotId));
+                }
+            });
+            return violations;
+        }
+    }
+
+    private final class ContractScenario implements Scenario<Long> {
+
+        private final ContractService contractService = context.getBean(ContractService.class);
+        private final AvailableSlotRepository slotRepository = context.getBean(AvailableSlotRepository.class);
+        private final Product product;
+        private final List<Long> contenders;
+
+        ContractScenario(List<Long> contenders) {
+            Long vendorId = context.getBean(SyntheticDataSeeder.class).getVendorIds().get(0);
+            this.product = context.getBean(ProductRepository.class).findAllByVendorIdIn(List.of(vendorId)).get(0);
+            this.contenders = contenders;
+        }
+
+        @Override
+        public String name() {
+            return "contract";
+        }
+
+        @Override
+        public List<Long> prepare(int round) {
+            List<AvailableSlot> slots = new ArrayList<>();
+            for (int i = 0; i < options.hotSetSize(); i++) {
+                LocalDateTime startTime = nextStartTime();
+                slots.add(AvailableSlot.builder()
+                        .product(product)
+                        .startTime(startTime)
+                        .endTime(startTime.plusMinutes(product.getDurationInMinutes()))
+                        .build());
+            }
+            return slotRepository.saveAll(slots).stream().map(AvailableSlot::getId).toList();
+        }
+
+        @Override
+        public List<Long> contenders(int round) {
+            return contenders;
+        }
+
+        @Override
+        public void book(Long memberId, Long slotId) {
+            contractService.createContract(memberId, new ContractCreateRequestDTO(slotId, null, null));
+        }
+
+        @Override
+        public List<String> verify(Map<Long, List<Long>> winners) {
+            // 계약은 슬롯 FK 가 없으므로 (상품, 이행 일시) 로 집계
+            Map<Long, Object[]> slots = query(em -> em.createQuery(
+                            "SELECT s.id, s.startTime, s.status FROM AvailableSlot s WHERE s.id IN :ids", Object[].class)
+                    .setParameter("ids", winners.keySet())
+                    .getResultList()
+                    .stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> row)));
+            List<LocalDateTime> startTimes = slots.values().stream().map(row -> (LocalDateTime) row[1]).toList();
+            Map<LocalDateTime, Long> contracts = query(em -> em.createQuery(
+                            "SELECT c.executionDateTime, COUNT(c) FROM Contract c " +
+                                    "WHERE c.product.id = :productId AND c.executionDateTime IN :times " +
+                                    "GROUP BY c.executionDateTime", Object[].class)
+                    .setParameter("productId", product.getId())
+                    .setParameter("times", startTimes)
+                    .getResultList()
+                    .stream()
+                    .collect(Collectors.toMap(row -> (LocalDateTime) row[0], row -> (Long) row[1])));
+
+            List<String> violations = new ArrayList<>();
+            winners.forEach((slotId, slotWinners) -> {
+                Object[] slot = slots.get(slotId);
+                long stored = contracts.getOrDefault((LocalDateTime) slot[1], 0L);
+                boolean booked = slot[2] == TimeSlotStatus.BOOKED;
+                if (slotWinners.size() > 1 || stored > 1 || stored != slotWinners.size() || booked != (stored == 1)) {
+                    violations.add("계약 슬롯 " + slotId + " - 성공 " + slotWinners.size() + "건, 계약 row "
+                            + stored + "건, 상태 " + slot[2]);
+                }
+            });
+            return violations;
+        }
+    }
+
+    private final class CoupleScenario implements Scenario<String> {
+
+        private final CoupleService coupleService = context.getBean(CoupleService.class);
+        private final CoupleRepository coupleRepository = context.getBean(CoupleRepository.class);
+
+        @Override
+        public String name() {
+            return "couple";
+        }
+
+        // 신부만 등록된(연동 대기) 커플을 hot set 크기만큼 생성
+        @Override
+        public List<String> prepare(int round) {
+            List<Long> brideIds = createMembers("bride-" + round, Type.BRIDE, options.hotSetSize());
+            List<Couple> couples = new ArrayList<>();
+            for (int i = 0; i < brideIds.size(); i++) {
+                couples.add(Couple.builder()
+                        .bride(memberRepository.getReferenceById(brideIds.get(i)))
+                        .coupleCode(String.format("H%03d%06d", round, i))
+                        .build());
+            }
+            return coupleRepository.saveAll(couples).stream().map(Couple::getCoupleCode).toList();
+        }
+
+        // 회원당 한 번만 연동할 수 있으므로 라운드마다 새 신랑 회원
+        @Override
+        public List<Long> contenders(int round) {
+            return createMembers("groom-" + round, Type.GROOM, options.threads());
+        }
+
+        @Override
+        public void book(Long memberId, String coupleCode) {
+            coupleService.connectWithCode(memberId, coupleCode);
+        }
+
+        @Override
+        public List<String> verify(Map<String, List<Long>> winners) {
+            Map<String, Long> grooms = new HashMap<>();
+            query(em -> em.createQuery(
+                            "SELECT c.coupleCode, g.id FROM Couple c LEFT JOIN c.groom g WHERE c.coupleCode IN :codes",
+                            Object[].class)
+                    .setParameter("codes", winners.keySet())
+                    .getResultList())
+                    .forEach(row -> grooms.put((String) row[0], (Long) row[1]));
+
+            List<String> violations = new ArrayList<>();
+            winners.forEach((code, codeWinners) -> {
+                Long groomId = grooms.get(code);
+                boolean consistent = codeWinners.isEmpty()
+                        ? groomId == null
+                        : codeWinners.size() == 1 && Objects.equals(codeWinners.get(0), groomId);
+                if (!consistent) {
+                    violations.add("커플 코드 " + code + " - 연동 성공 " + codeWinners + ", 저장된 신랑 " + groomId);
+                }
+            });
+            return violations;
+        }
+    }
+
+    // --- 결과 ---
+
+    private enum Outcome {
+        WON, LOST, FAILED
+    }
+
+    private static final class Counters {
+
+        private final LongAdder won = new LongAdder();
+        private final LongAdder lost = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();     // 재시도 소진
+        private final LongAdder errors = new LongAdder();        // 예상하지 못한 예외
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder deadlocks = new LongAdder();
+        private final LongAdder lockFailures = new LongAdder();  // 락 타임아웃, 동시 갱신 충돌
+        private final Map<String, String> errorSamples = new ConcurrentHashMap<>();
+    }
+
+    private record ScenarioResult(String name, long requests, long wallNanos, Counters counters,
+                                  LatencyRecorder.Snapshot latency, LatencyRecorder.Snapshot lockWait,
+                                  List<String> violations) {
+
+        long errors() {
+            return counters.errors.sum();
+        }
+
+        double throughput() {
+            return wallNanos == 0 ? 0 : requests / (wallNanos / 1_000_000_000.0);
+        }
+
+        void print() {
+            System.out.printf("%n[%s] 요청 %d건, %.1f req/s%n", name, requests, throughput());
+            System.out.printf("  성공 %d, 경쟁 실패 %d, 재시도 소진 %d, 예외 %d%n", counters.won.sum(),
+                    counters.lost.sum(), counters.exhausted.sum(), counters.errors.sum());
+            System.out.printf("  재시도 %d, 데드락 %d, 락 타임아웃/갱신 충돌 %d%n", counters.retries.sum(),
+                    counters.deadlocks.sum(), counters.lockFailures.sum());
+            System.out.printf("  지연(ms)     p50 %.2f, p99 %.2f, p999 %.2f, max %.2f%n", latency.percentileMillis(50),
+                    latency.percentileMillis(99), latency.percentileMillis(99.9), latency.maxMillis());
+            System.out.printf("  락 대기(ms)  %d회, 합계 %.1f, p50 %.2f, p99 %.2f, max %.2f%n", lockWait.count(),
+                    lockWait.totalNanos() / 1_000_000.0, lockWait.percentileMillis(50),
+                    lockWait.percentileMillis(99), lockWait.maxMillis());
+            System.out.println("  지연 히스토그램 " + latency.histogram());
+            counters.errorSamples.forEach((type, message) -> System.out.println("  예외 " + type + ": " + message));
+            System.out.println("  중복 예약 위반 " + violations.size() + "건");
+            violations.stream().limit(20).forEach(violation -> System.out.println("    " + violation));
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("scenario", name);
+            map.put("requests", requests);
+            map.put("throughputPerSecond", throughput());
+            map.put("won", counters.won.sum());
+            map.put("lost", counters.lost.sum());
+            map.put("retriesExhausted", counters.exhausted.sum());
+            map.put("errors", counters.errors.sum());
+            map.put("retries", counters.retries.sum());
+            map.put("deadlocks", counters.deadlocks.sum());
+            map.put("lockFailures", counters.lockFailures.sum());
+            map.put("latency", latency.toMap());
+            map.put("lockWait", lockWait.toMap());
+            map.put("violations", violations);
+            return map;
+        }
+    }
+
+    /**
+     * --key=value 형식 인자
+     * --scenario=all|consultation|contract|couple --threads=2000 --hot-set=8 --rounds=3
+     * --strategy=PESSIMISTIC_LOCK|CONDITIONAL_UPDATE --pool-size=32 --lock-timeout-ms=10000 --max-retries=3 --output=경로
+     */
+    record Options(String scenario, int threads, int hotSetSize, int rounds, SlotBookingStrategy strategy,
+                   int poolSize, long lockTimeoutMillis, int maxRetries, String output) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("--key=value 형식이 아닌 인자입니다: " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            Options options = new Options(
+                    values.getOrDefault("scenario", "all"),
+                    Integer.parseInt(values.getOrDefault("threads", "2000")),
+                    Integer.parseInt(values.getOrDefault("hot-set", "8")),
+                    Integer.parseInt(values.getOrDefault("rounds", "3")),
+                    SlotBookingStrategy.valueOf(values.getOrDefault("strategy", "PESSIMISTIC_LOCK")),
+                    Integer.parseInt(values.getOrDefault("pool-size", "32")),
+                    Long.parseLong(values.getOrDefault("lock-timeout-ms", "10000")),
+                    Integer.parseInt(values.getOrDefault("max-retries", "3")),
+                    values.get("output"));
+            if (options.hotSetSize() <= 0 || options.threads() < options.hotSetSize()) {
+                throw new IllegalArgumentException("threads 는 hot-set 크기 이상이어야 합니다.");
+            }
+            return options;
+        }
+
+        boolean includes(String name) {
+            return "all".equals(scenario) || scenario.equals(name);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("scenario", scenario);
+            map.put("threads", threads);
+            map.put("hotSet", hotSetSize);
+            map.put("rounds", rounds);
+            map.put("strategy", strategy.name());
+            map.put("poolSize", poolSize);
+            map.put("lockTimeoutMs", lockTimeoutMillis);
+            map.put("maxRetries", maxRetries);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.wedit.backend.benchmark.contention;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지연 시간 샘플 기록 (나노초)
+ * 시나리오당 샘플 수가 요청 수 수준(수만 건)이므로 전부 보관하고, 조회 시 정렬해 정확한 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized Snapshot snapshotAndReset() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        count = 0;
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    static final class Snapshot {
+
+        private final long[] sorted;
+
+        private Snapshot(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        int count() {
+            return sorted.length;
+        }
+
+        long totalNanos() {
+            long total = 0;
+            for (long sample : sorted) {
+                total += sample;
+            }
+            return total;
+        }
+
+        double meanMillis() {
+            return sorted.length == 0 ? 0 : toMillis(totalNanos()) / sorted.length;
+        }
+
+        // 백분위 (nearest-rank)
+        double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return toMillis(sorted[Math.max(rank, 1) - 1]);
+        }
+
+        double maxMillis() {
+            return sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]);
+        }
+
+        /**
+         * 2의 거듭제곱 ms 경계 히스토그램 (eg. "<1ms", "<2ms", "<4ms" ...), 빈 구간 제외
+         */
+        Map<String, Integer> histogram() {
+            Map<String, Integer> buckets = new LinkedHashMap<>();
+            int index = 0;
+            for (long bound = 1; index < sorted.length; bound *= 2) {
+                long boundNanos = bound * 1_000_000L;
+                int from = index;
+                while (index < sorted.length && sorted[index] < boundNanos) {
+                    index++;
+                }
+                if (index > from) {
+                    buckets.put("<" + bound + "ms", index - from);
+                }
+            }
+            return buckets;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count());
+            map.put("meanMs", meanMillis());
+            map.put("p50Ms", percentileMillis(50));
+            map.put("p99Ms", percentileMillis(99));
+            map.put("p999Ms", percentileMillis(99.9));
+            map.put("maxMs", maxMillis());
+            map.put("histogram", histogram());
+            return map;
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.wedit.backend.benchmark.contention;
+
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import com.wedit.backend.api.member.repository.CoupleRepository;
+import com.wedit.backend.api.reservation.repository.ConsultationSlotRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.util.List;
+
+/**
+ * 슬롯 / 커플 repository 의 락 획득 쿼리 소요 시간 계측
+ * - @Lock(SELECT ... FOR UPDATE) 과 @Modifying(조건부 UPDATE) 메서드만 대상이며, 쿼리 시간은 대부분 row 락 대기 시간
+ * - 커넥션 풀 대기는 포함되지 않음 (트랜잭션 시작 시 이미 커넥션을 얻은 상태)
+ */
+public class LockWaitRecorder implements BeanPostProcessor {
+
+    private static final List<Class<?>> LOCKING_REPOSITORIES = List.of(
+            ConsultationSlotRepository.class, AvailableSlotRepository.class, CoupleRepository.class);
+
+    private final LatencyRecorder waits = new LatencyRecorder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> repository : LOCKING_REPOSITORIES) {
+            if (repository.isInstance(bean)) {
+                ProxyFactory proxyFactory = new ProxyFactory();
+                proxyFactory.setTarget(bean);
+                proxyFactory.addInterface(repository);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    if (AnnotationUtils.findAnnotation(invocation.getMethod(), Lock.class) == null
+                            && AnnotationUtils.findAnnotation(invocation.getMethod(), Modifying.class) == null) {
+                        return invocation.proceed();
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invocation.proceed();
+                    } finally {
+                        waits.record(System.nanoTime() - start);
+                    }
+                });
+                return proxyFactory.getProxy();
+            }
+        }
+        return bean;
+    }
+
+    LatencyRecorder.Snapshot snapshotAndReset() {
+        return waits.snapshotAndReset();
+    }
+}
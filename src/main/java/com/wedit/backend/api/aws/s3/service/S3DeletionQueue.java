@@ -0,0 +1,141 @@
+package com.wedit.backend.api.aws.s3.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * S3 객체 비동기 삭제 큐
+ * - 미디어 row 삭제가 커밋된 뒤 key 를 큐에 넣고, 주기적으로 DeleteObjects 한 번에 최대 1000개씩 묶어 삭제
+ * - 실패한 key 는 지수 백오프로 maxAttempts 회까지 다시 시도하고, 그래도 실패하면 로그로 남김
+ * 요청 스레드는 S3 왕복을 기다리지 않으며, 롤백된 트랜잭션의 key 는 삭제되지 않습니다.
+ * 큐는 인스턴스 메모리에만 있으므로 종료 직전에 한 번 비우고, 남은 key 는 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+
+    private final S3Service s3Service;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    // flush 안에서만 접근 (flush 는 synchronized)
+    private final PriorityQueue<RetryEntry> retries = new PriorityQueue<>(Comparator.comparingLong(RetryEntry::retryAt));
+
+    public S3DeletionQueue(S3Service s3Service,
+                           @Value("${cloud.aws.s3.delete-queue.max-attempts:5}") int maxAttempts,
+                           @Value("${cloud.aws.s3.delete-queue.retry-backoff-millis:2000}") long retryBackoffMillis) {
+        this.s3Service = s3Service;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * 삭제할 S3 key 를 등록합니다. 트랜잭션 안에서 호출되면 커밋 후 등록합니다.
+     */
+    public void enqueue(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        List<String> snapshot = List.copyOf(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.addAll(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.addAll(snapshot);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.delete-queue.flush-millis:1000}")
+    public void flushScheduled() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(true);
+        int remaining;
+        synchronized (this) {
+            remaining = pending.size() + retries.size();
+        }
+        if (remaining > 0) {
+            log.warn("[S3Delete] 종료 시 삭제하지 못한 S3 객체 {}개가 남았습니다.", remaining);
+        }
+    }
+
+    // ignoreBackoff 이면 재시도 대기 중인 key 도 바로 시도 (종료 시)
+    private synchronized void flush(boolean ignoreBackoff) {
+        List<RetryEntry> batch;
+        do {
+            batch = nextBatch(ignoreBackoff ? Long.MAX_VALUE : System.currentTimeMillis());
+            if (batch.isEmpty()) {
+                return;
+            }
+            delete(batch, ignoreBackoff);
+        } while (batch.size() == S3Service.MAX_DELETE_KEYS);
+    }
+
+    // 재시도 시각이 된 key 를 먼저, 이어서 새 key 를 최대 MAX_DELETE_KEYS 개까지 모음 (중복 key 는 한 번만)
+    private List<RetryEntry> nextBatch(long now) {
+        List<RetryEntry> batch = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        while (batch.size() < S3Service.MAX_DELETE_KEYS && !retries.isEmpty() && retries.peek().retryAt() <= now) {
+            RetryEntry entry = retries.poll();
+            if (keys.add(entry.key())) {
+                batch.add(entry);
+            }
+        }
+        String key;
+        while (batch.size() < S3Service.MAX_DELETE_KEYS && (key = pending.poll()) != null) {
+            if (keys.add(key)) {
+                batch.add(new RetryEntry(key, 0, 0L));
+            }
+        }
+        return batch;
+    }
+
+    private void delete(List<RetryEntry> batch, boolean finalAttempt) {
+        Set<String> failedKeys;
+        try {
+            failedKeys = new HashSet<>(s3Service.deleteFiles(batch.stream().map(RetryEntry::key).toList()));
+        } catch (RuntimeException e) {
+            log.warn("[S3Delete] S3 객체 일괄 삭제 요청 실패 - {}개, 원인: {}", batch.size(), e.getMessage());
+            failedKeys = null;  // 요청 자체가 실패하면 묶음 전체를 다시 시도
+        }
+
+        long now = System.currentTimeMillis();
+        for (RetryEntry entry : batch) {
+            if (failedKeys != null && !failedKeys.contains(entry.key())) {
+                continue;
+            }
+            int attempts = entry.attempts() + 1;
+            if (attempts >= maxAttempts || finalAttempt) {
+                log.error("[S3Delete] S3 객체 삭제 포기 - key: {}, 시도 {}회", entry.key(), attempts);
+                continue;
+            }
+            retries.add(new RetryEntry(entry.key(), attempts, now + (retryBackoffMillis << (attempts - 1))));
+        }
+    }
+
+    private record RetryEntry(String key, int attempts, long retryAt) {
+    }
+}
@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +27,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class S3Service {
 
+    // DeleteObjects 요청 하나에 담을 수 있는 최대 key 수
+    public static final int MAX_DELETE_KEYS = 1000;
+
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
 
@@ -101,22 +105,36 @@ public class S3Service {
         log.info("S3 file deleted : {}", key);
     }
 
-    public void deleteFiles(List<String> keys) {
+    /**
+     * 여러 S3 객체를 DeleteObjects 로 삭제합니다. (요청당 최대 MAX_DELETE_KEYS 개씩 나누어 호출)
+     * @return 삭제에 실패한 key 목록
+     */
+    public List<String> deleteFiles(List<String> keys) {
         if (keys == null || keys.isEmpty()) {
-            return;
+            return Collections.emptyList();
         }
 
-        List<ObjectIdentifier> toDelete = keys.stream()
-                .map(key -> ObjectIdentifier.builder().key(key).build())
-                .toList();
-
-        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                .bucket(bucketName)
-                .delete(Delete.builder().objects(toDelete).build())
-                .build();
-
-        s3Client.deleteObjects(deleteObjectsRequest);
-        log.info("S3 file deleted : {} items", keys.size());
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+
+            List<ObjectIdentifier> toDelete = chunk.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(toDelete).quiet(true).build())
+                    .build();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+            for (S3Error error : response.errors()) {
+                log.warn("S3 file delete failed : {} ({})", error.key(), error.code());
+                failedKeys.add(error.key());
+            }
+            log.info("S3 file deleted : {} items", chunk.size() - response.errors().size());
+        }
+        return failedKeys;
     }
 
     // URL Generator
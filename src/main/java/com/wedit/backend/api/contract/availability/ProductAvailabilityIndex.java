@@ -0,0 +1,128 @@
+package com.wedit.backend.api.contract.availability;
+
+import com.wedit.backend.api.vendor.search.AvailabilityFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 계약 가능 날짜 비트맵
+ * - 상품마다 예약 가능(AVAILABLE) 계약 슬롯이 하나라도 있는 날짜의 비트를 세운 BitSet (비트 위치 = 기준일로부터의 일수)
+ * - 템플릿 상품은 템플릿 달력에서 예약되지 않은 시간이 남은 날짜를 기록
+ * - 조회 범위는 오늘부터 horizonDays 일 후까지
+ *
+ * 상품 BitSet 은 한 번 게시되면 수정하지 않고 통째로 교체하므로, 검색 스레드는 lock 없이 읽습니다.
+ * 갱신은 계산 시작 전에 받은 순번(beginRefresh)이 더 큰 경우에만 반영되어, 늦게 끝난 오래된 계산이 최신 값을 덮어쓰지 않습니다.
+ * 기동 후 첫 구축(ProductAvailabilityLoader)이 끝나기 전에는 isReady() 가 false 입니다.
+ */
+@Component
+public class ProductAvailabilityIndex {
+
+    private final int horizonDays;
+    private final long baseEpochDay;
+    private final Map<Long, ProductDays> products = new ConcurrentHashMap<>();
+    private final AtomicLong refreshSequence = new AtomicLong();
+    // 비트맵이 바뀔 때마다 증가 (검색 결과 캐시 키에 포함)
+    private final AtomicLong version = new AtomicLong();
+    // 마지막 전체 구축 순번 - 비트맵에 없는 상품의 갱신 기준
+    private long rebuiltSequence = 0;
+
+    private volatile boolean ready = false;
+
+    public ProductAvailabilityIndex(@Value("${contract.availability.horizon-days:730}") int horizonDays) {
+        this.horizonDays = horizonDays;
+        this.baseEpochDay = LocalDate.now().toEpochDay();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 비트맵이 다루는 마지막 날짜
+    public LocalDate lastDate() {
+        return LocalDate.now().plusDays(horizonDays);
+    }
+
+    /**
+     * 상품 날짜 계산을 시작하기 전에 순번을 받습니다. (이 순번 이후 커밋된 변경은 계산 결과에 포함됨)
+     */
+    public long beginRefresh() {
+        return refreshSequence.incrementAndGet();
+    }
+
+    /**
+     * 전체 상품의 계약 가능 날짜로 비트맵을 다시 채웁니다.
+     * 목록에 없는 상품은 계약 가능 날짜가 없는 것으로 처리하며, sequence 이후 갱신된 상품은 그대로 둡니다.
+     */
+    public synchronized void rebuild(Map<Long, ? extends Collection<LocalDate>> datesByProduct, long sequence) {
+        products.entrySet().removeIf(entry ->
+                entry.getValue().sequence() < sequence && !datesByProduct.containsKey(entry.getKey()));
+        rebuiltSequence = Math.max(rebuiltSequence, sequence);
+        datesByProduct.forEach((productId, dates) -> apply(productId, dates, sequence));
+        version.incrementAndGet();
+        ready = true;
+    }
+
+    /**
+     * 한 상품의 계약 가능 날짜를 교체합니다.
+     */
+    public synchronized void replace(Long productId, Collection<LocalDate> dates, long sequence) {
+        if (apply(productId, dates, sequence)) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * [from, to] 기간 중 계약 가능한 날이 있는지
+     */
+    public boolean isAvailable(long productId, LocalDate from, LocalDate to) {
+        ProductDays entry = products.get(productId);
+        if (entry == null) {
+            return false;
+        }
+        long toBit = to.toEpochDay() - baseEpochDay;
+        if (toBit < 0) {
+            return false;
+        }
+        int next = entry.days().nextSetBit((int) Math.max(0, from.toEpochDay() - baseEpochDay));
+        return next >= 0 && next <= toBit;
+    }
+
+    /**
+     * 검색 인덱스에 전달할 계약 가능 날짜 조건
+     */
+    public AvailabilityFilter filter(LocalDate from, LocalDate to) {
+        return new AvailabilityFilter(from, to, version.get(), productId -> isAvailable(productId, from, to));
+    }
+
+    public int productCount() {
+        return products.size();
+    }
+
+    private boolean apply(Long productId, Collection<LocalDate> dates, long sequence) {
+        ProductDays current = products.get(productId);
+        long latest = (current != null) ? current.sequence() : rebuiltSequence;
+        if (sequence < latest) {
+            return false;
+        }
+        BitSet days = new BitSet();
+        for (LocalDate date : dates) {
+            long bit = date.toEpochDay() - baseEpochDay;
+            if (bit >= 0) {
+                days.set((int) bit);
+            }
+        }
+        // 날짜가 없어져도 순번 비교를 위해 빈 BitSet 으로 유지
+        products.put(productId, new ProductDays(days, sequence));
+        return true;
+    }
+
+    private record ProductDays(BitSet days, long sequence) {
+    }
+}
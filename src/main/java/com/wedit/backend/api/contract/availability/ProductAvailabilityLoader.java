@@ -0,0 +1,113 @@
+package com.wedit.backend.api.contract.availability;
+
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import com.wedit.backend.api.reservation.entity.SlotTemplateTarget;
+import com.wedit.backend.api.reservation.repository.SlotTemplateRepository;
+import com.wedit.backend.api.reservation.template.CalendarSlot;
+import com.wedit.backend.api.reservation.template.SlotTemplateCalendar;
+import com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus;
+import com.wedit.backend.common.event.AvailableSlotChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 계약 가능 날짜 비트맵 적재기
+ * - 기동 시: 예약 가능 슬롯이 있는 (상품, 날짜) 를 한 번에 집계하고, 템플릿 상품은 템플릿 달력으로 계산해 구축
+ * - 슬롯 변경 커밋 후(AvailableSlotChangedEvent): 해당 상품만 다시 계산
+ * - 매일 새벽: 조회 범위를 하루씩 늘리고 다른 인스턴스에서 반영된 변경을 맞추기 위해 전체 재구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAvailabilityLoader implements ApplicationRunner {
+
+    private final AvailableSlotRepository availableSlotRepository;
+    private final SlotTemplateRepository slotTemplateRepository;
+    private final SlotTemplateCalendar slotTemplateCalendar;
+    private final ProductAvailabilityIndex productAvailabilityIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${contract.availability.rebuild-cron:0 30 4 * * *}")
+    @Transactional(readOnly = true)
+    public void rebuildDaily() {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleAvailableSlotChanged(AvailableSlotChangedEvent event) {
+        Long productId = event.getProductId();
+        long sequence = productAvailabilityIndex.beginRefresh();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<LocalDate> dates = slotTemplateRepository.existsByTargetAndOwnerId(SlotTemplateTarget.CONTRACT, productId)
+                ? templateDates(productId, now)
+                : availableSlotRepository.findAvailableSlotDatesByProductId(productId, now, horizonEnd()).stream()
+                        .map(ProductSlotDate::slotDate)
+                        .collect(Collectors.toSet());
+        productAvailabilityIndex.replace(productId, dates, sequence);
+        log.debug("[Availability] 상품 계약 가능 날짜 갱신 - productId: {}, {}일", productId, dates.size());
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        long sequence = productAvailabilityIndex.beginRefresh();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Set<LocalDate>> datesByProduct = new HashMap<>();
+        for (ProductSlotDate row : availableSlotRepository.findAvailableSlotDates(now, horizonEnd())) {
+            datesByProduct.computeIfAbsent(row.productId(), id -> new TreeSet<>()).add(row.slotDate());
+        }
+        // 템플릿 상품은 저장된 슬롯 row 만으로는 알 수 없으므로 달력으로 계산 (저장된 row 도 달력에 포함됨)
+        List<Long> templateProductIds = slotTemplateRepository.findOwnerIdsByTarget(SlotTemplateTarget.CONTRACT);
+        for (Long productId : templateProductIds) {
+            datesByProduct.put(productId, templateDates(productId, now));
+        }
+
+        productAvailabilityIndex.rebuild(datesByProduct, sequence);
+        log.info("[Availability] 계약 가능 날짜 비트맵 구축 완료 - 상품 {}개 (템플릿 상품 {}개), 소요시간: {}ms",
+                datesByProduct.size(), templateProductIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 템플릿 달력 중 지나지 않은 예약 가능 슬롯의 날짜
+    private Set<LocalDate> templateDates(Long productId, LocalDateTime now) {
+        LocalDate from = now.toLocalDate();
+        LocalDate to = productAvailabilityIndex.lastDate();
+        List<CalendarSlot> stored = availableSlotRepository.findByProductIdAndStartTimeBetween(
+                        productId, from.atStartOfDay(), horizonEnd())
+                .stream()
+                .map(slot -> new CalendarSlot(slot.getId(), slot.getStartTime(), slot.getEndTime(),
+                        slot.getStatus() == TimeSlotStatus.AVAILABLE))
+                .toList();
+
+        return slotTemplateCalendar.build(SlotTemplateTarget.CONTRACT, productId, from, to, stored).stream()
+                .filter(slot -> slot.available() && slot.startTime().isAfter(now))
+                .map(slot -> slot.startTime().toLocalDate())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private LocalDateTime horizonEnd() {
+        return productAvailabilityIndex.lastDate().plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,9 @@
+package com.wedit.backend.api.contract.availability;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 가능 슬롯이 있는 상품별 날짜 (계약 가능 날짜 비트맵 구축용 집계 row)
+ */
+public record ProductSlotDate(Long productId, LocalDate slotDate) {
+}
@@ -79,6 +79,47 @@ public class ContractController {
         return ApiResponse.success(SuccessStatus.CONTRACT_CREATE_SUCCESS, response);
     }
 
+    @Operation(
+            summary = "계약 슬롯 임시 선점",
+            description = """
+                결제를 진행하는 동안 슬롯을 임시 선점합니다. 액세스 토큰 필요.
+                
+                - 선점한 슬롯은 다른 사용자에게 예약 불가로 표시됩니다.
+                - `holdExpiresAt` 전에 같은 `availableSlotId` 로 계약을 생성하면 확정되고, 지나면 자동으로 예약 가능 상태로 돌아갑니다.
+                """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "선점 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 예약 또는 선점된 슬롯", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<SlotHoldResponseDTO>> holdSlot(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String reqToken,
+            @Valid @RequestBody ContractCreateRequestDTO request) {
+
+        Long memberId = extractMemberId(reqToken);
+
+        SlotHoldResponseDTO response = contractService.holdSlot(memberId, request);
+
+        return ApiResponse.success(SuccessStatus.CONTRACT_SLOT_HOLD_SUCCESS, response);
+    }
+
+    @Operation(
+            summary = "계약 슬롯 선점 해제",
+            description = "본인이 임시 선점한 슬롯을 계약 없이 해제합니다. 액세스 토큰 필요."
+    )
+    @DeleteMapping("/holds/{availableSlotId}")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String reqToken,
+            @Parameter(description = "계약 슬롯 ID", example = "1") @PathVariable @Positive Long availableSlotId) {
+
+        Long memberId = extractMemberId(reqToken);
+
+        contractService.releaseHold(memberId, availableSlotId);
+
+        return ApiResponse.successOnly(SuccessStatus.CONTRACT_SLOT_HOLD_RELEASE_SUCCESS);
+    }
+
     @Operation(summary = "나의 계약 목록 조회 (마이페이지 내 계약건 탭)",
             description = "다가오는 계약, 지난 계약을 모두 포함하여 이행일 순으로 페이징 조회합니다."
     )
@@ -157,6 +198,24 @@ public class ContractController {
         return ApiResponse.successOnly(SuccessStatus.AVAILABLE_TIME_SLOT_CREATE_SUCCESS);
     }
 
+    @Operation(
+            summary = "계약 슬롯 템플릿 등록",
+            description = """
+                요일, 운영 시간, 적용 기간, 휴무일로 상품의 계약 가능 시간을 규칙으로 등록합니다. (슬롯 길이는 상품 이용 시간)
+                
+                - 슬롯 row 를 미리 만들지 않고, 조회 시 요청한 달만 계산합니다. (템플릿 슬롯은 `availableSlotId` 가 null)
+                - 템플릿 슬롯 계약 시에는 `availableSlotId` 대신 `productId` 와 `startTime` 을 전달합니다.
+                """
+    )
+    @PostMapping("/available-slot-templates")
+    public ResponseEntity<ApiResponse<Void>> createAvailableSlotTemplate(
+            @Valid @RequestBody AvailableSlotTemplateCreateRequestDTO request) {
+
+        contractService.createSlotTemplate(request);
+
+        return ApiResponse.successOnly(SuccessStatus.AVAILABLE_SLOT_TEMPLATE_CREATE_SUCCESS);
+    }
+
     // --- 헬퍼 메서드 ---
 
     private Long extractMemberId(String reqToken) {
@@ -14,7 +14,12 @@ public record AvailableSlotResponseDTO(
 
     public static AvailableSlotResponseDTO from(AvailableSlot slot) {
 
-        Product product = slot.getProduct();
+        return of(slot.getProduct(), slot.getId(), slot.getStartTime());
+    }
+
+    // 템플릿으로 계산된 가상 슬롯은 availableSlotId 가 null
+    public static AvailableSlotResponseDTO of(Product product, Long availableSlotId, LocalDateTime startTime) {
+
         ProductDetailsDTO details = null;
 
         if (product instanceof WeddingHallProduct p) {
@@ -35,8 +40,8 @@ public record AvailableSlotResponseDTO(
                 : null;
 
         return new AvailableSlotResponseDTO(
-                slot.getId(),
-                slot.getStartTime(),
+                availableSlotId,
+                startTime,
                 product.getBasePrice(),
                 productType,
                 details
@@ -0,0 +1,48 @@
+package com.wedit.backend.api.contract.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 슬롯 길이는 상품의 이용 시간(durationInMinutes)을 사용
+public record AvailableSlotTemplateCreateRequestDTO(
+
+        @Schema(description = "계약 가능 시간을 등록할 상품(Product)의 ID")
+        @NotNull(message = "상품 ID는 필수입니다.")
+        Long productId,
+
+        @Schema(description = "계약 가능 요일 목록", example = "[\"SATURDAY\", \"SUNDAY\"]")
+        @NotEmpty(message = "하나 이상의 요일을 입력해야 합니다.")
+        List<@NotNull DayOfWeek> daysOfWeek,
+
+        @Schema(description = "첫 이행 시작 시각", example = "11:00")
+        @NotNull
+        LocalTime openTime,
+
+        @Schema(description = "마지막 이행 종료 시각", example = "20:00")
+        @NotNull
+        LocalTime closeTime,
+
+        @Schema(description = "적용 시작일")
+        @NotNull
+        LocalDate validFrom,
+
+        @Schema(description = "적용 종료일 (없으면 계속 적용)")
+        LocalDate validUntil,
+
+        @Schema(description = "휴무일 목록")
+        List<@NotNull LocalDate> blackoutDates
+) {
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "종료 시각은 시작 시각 이후여야 합니다.")
+    public boolean isTimeRangeValid() {
+        return openTime == null || closeTime == null || openTime.isBefore(closeTime);
+    }
+}
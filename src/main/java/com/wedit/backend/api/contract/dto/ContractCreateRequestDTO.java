@@ -1,6 +1,11 @@
 package com.wedit.backend.api.contract.dto;
 
+import java.time.LocalDateTime;
+
+// 등록된 슬롯은 availableSlotId, 템플릿으로 계산된 가상 슬롯(availableSlotId 가 null)은 productId + startTime 으로 계약
 public record ContractCreateRequestDTO(
-        Long availableSlotId
+        Long availableSlotId,
+        Long productId,
+        LocalDateTime startTime
 ) {
 }
@@ -0,0 +1,10 @@
+package com.wedit.backend.api.contract.dto;
+
+import java.time.LocalDateTime;
+
+// 선점한 슬롯 ID 와 만료 시각 - 만료 전에 같은 availableSlotId 로 계약을 생성해야 확정됨
+public record SlotHoldResponseDTO(
+        Long availableSlotId,
+        LocalDateTime holdExpiresAt
+) {
+}
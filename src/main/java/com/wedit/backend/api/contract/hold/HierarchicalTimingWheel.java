@@ -0,0 +1,107 @@
+package com.wedit.backend.api.contract.hold;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (SlotHoldTimer 의 lock 안에서만 사용)
+ * 레벨 L 의 버킷 하나는 wheelSize^L 틱 구간이며, 만료 시각이 현재 구간에서 가까운 항목일수록 낮은 레벨에 놓입니다.
+ * 등록은 O(1), 틱 진행은 만료/하위 레벨 이동 항목 수에만 비례하므로 등록된 전체 항목 수와 무관합니다.
+ * 상위 레벨 버킷은 해당 구간이 시작되는 틱에 비워지며, 항목은 남은 시간에 맞는 하위 레벨로 다시 배치됩니다.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;             // log2(wheelSize)
+    private final int mask;
+    private final ArrayDeque<Entry<T>>[][] levels;   // [레벨][버킷]
+    private final List<T> overdue = new ArrayList<>();  // 등록/재배치 시점에 이미 만료된 항목
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param wheelSize  레벨별 버킷 수 (2의 거듭제곱)
+     * @param levelCount 레벨 수 - 표현 가능한 최대 구간은 tickMillis * wheelSize^levelCount
+     */
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new ArrayDeque[levelCount][wheelSize];
+        for (int level = 0; level < levelCount; level++) {
+            for (int bucket = 0; bucket < wheelSize; bucket++) {
+                levels[level][bucket] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        size++;
+        // 올림 - 버킷이 비워지는 시각(틱 시작)이 만료 시각보다 앞서지 않도록
+        place(new Entry<>(item, Math.ceilDiv(deadlineMillis, tickMillis)));
+    }
+
+    /**
+     * nowMillis 까지 틱을 진행하고 그 사이 만료된 항목을 반환합니다.
+     */
+    List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 상위 레벨부터 비워야 하위 레벨로 내려온 항목이 같은 틱의 처리에 포함됨
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    ArrayDeque<Entry<T>> bucket = levels[level][(int) ((currentTick >>> (bits * level)) & mask)];
+                    Entry<T> entry;
+                    while ((entry = bucket.poll()) != null) {
+                        place(entry);
+                    }
+                }
+            }
+            ArrayDeque<Entry<T>> bucket = levels[0][(int) (currentTick & mask)];
+            Entry<T> entry;
+            while ((entry = bucket.poll()) != null) {
+                expired.add(entry.item());
+            }
+        }
+        // 등록 시점에 이미 만료된 항목과, 하위 레벨로 내려오면서 이번 틱에 만료된 항목
+        expired.addAll(overdue);
+        overdue.clear();
+        size -= expired.size();
+        return expired;
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.deadlineTick() <= currentTick) {
+            overdue.add(entry.item());
+            return;
+        }
+        int top = levels.length - 1;
+        for (int level = 0; level <= top; level++) {
+            int shift = bits * level;
+            long distance = (entry.deadlineTick() >>> shift) - (currentTick >>> shift);
+            if (distance <= mask) {
+                levels[level][(int) ((entry.deadlineTick() >>> shift) & mask)].add(entry);
+                return;
+            }
+        }
+        // 최대 구간을 넘는 항목은 최상위 레벨의 가장 먼 버킷에 두고, 그 구간이 시작될 때 다시 배치
+        int shift = bits * top;
+        levels[top][(int) (((currentTick >>> shift) + mask) & mask)].add(entry);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
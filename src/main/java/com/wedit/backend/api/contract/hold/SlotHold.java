@@ -0,0 +1,10 @@
+package com.wedit.backend.api.contract.hold;
+
+import java.time.LocalDateTime;
+
+// 임시 선점된 계약 슬롯과 만료 시각
+public record SlotHold(
+        Long slotId,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,30 @@
+package com.wedit.backend.api.contract.hold;
+
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 남아 있는 계약 슬롯 선점을 만료 타이머에 다시 등록
+ * 이미 만료된 선점은 첫 틱에서 바로 원복됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotHoldRecoveryRunner implements ApplicationRunner {
+
+    private final AvailableSlotRepository availableSlotRepository;
+    private final SlotHoldTimer slotHoldTimer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<SlotHold> holds = availableSlotRepository.findActiveHolds();
+        holds.forEach(hold -> slotHoldTimer.schedule(hold.slotId(), hold.expiresAt()));
+        log.info("[SlotHold] 계약 슬롯 선점 복구 완료 - {}개", holds.size());
+    }
+}
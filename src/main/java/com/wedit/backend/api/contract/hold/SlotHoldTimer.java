@@ -0,0 +1,123 @@
+package com.wedit.backend.api.contract.hold;
+
+import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
+import com.wedit.backend.common.event.AvailableSlotChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계약 슬롯 임시 선점 만료 타이머
+ * - 선점 커밋 후 만료 시각을 계층형 타이밍 휠에 등록하고, 틱마다 만료된 슬롯만 모아 한 번의 조건부 UPDATE 로 원복
+ * - 확정/해제된 선점은 휠에서 따로 제거하지 않으며, 만료 시 UPDATE 조건(RESERVED, holdExpiresAt <= now)에서 제외됨
+ * - 휠에서 꺼냈지만 DB 만료 시각이 아직 남은 선점은 그 시각으로 다시 등록
+ * - 다른 인스턴스에서 만든 선점이나 휠에 없는 선점은 sweepExpired 가 holdExpiresAt 인덱스 범위로 보정
+ * 재기동 시에는 SlotHoldRecoveryRunner 가 남아 있는 선점을 다시 등록합니다.
+ */
+@Slf4j
+@Component
+public class SlotHoldTimer {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVEL_COUNT = 4;
+
+    private final AvailableSlotRepository availableSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    public SlotHoldTimer(AvailableSlotRepository availableSlotRepository,
+                         TransactionTemplate transactionTemplate,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${contract.hold.tick-millis:1000}") long tickMillis) {
+        this.availableSlotRepository = availableSlotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, LEVEL_COUNT, System.currentTimeMillis());
+    }
+
+    /**
+     * 선점 만료를 등록합니다. 트랜잭션 안에서 호출되면 커밋 후 등록합니다.
+     */
+    public void schedule(Long slotId, LocalDateTime expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(slotId, expiresAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(slotId, expiresAt);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${contract.hold.tick-millis:1000}")
+    public void tick() {
+        List<Long> expiredSlotIds;
+        synchronized (wheel) {
+            expiredSlotIds = wheel.advanceTo(System.currentTimeMillis());
+        }
+        if (expiredSlotIds.isEmpty()) {
+            return;
+        }
+        List<SlotHold> pending = new ArrayList<>();
+        Integer released = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int count = release(expiredSlotIds, now);
+            // DB 에 저장된 만료 시각(초 단위 반올림 등)이 아직 지나지 않은 선점은 다시 등록
+            if (count < expiredSlotIds.size()) {
+                pending.addAll(availableSlotRepository.findPendingHoldsByIdIn(expiredSlotIds, now));
+            }
+            return count;
+        });
+        pending.forEach(hold -> register(hold.slotId(), hold.expiresAt()));
+        log.info("[SlotHold] 만료된 계약 슬롯 선점 원복 - 대상 {}개, 원복 {}개, 재등록 {}개",
+                expiredSlotIds.size(), released, pending.size());
+    }
+
+    @Scheduled(cron = "${contract.hold.sweep-cron:0 */5 * * * *}")
+    public void sweepExpired() {
+        Integer released = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> expiredSlotIds = availableSlotRepository.findExpiredHoldIds(now);
+            return expiredSlotIds.isEmpty() ? 0 : release(expiredSlotIds, now);
+        });
+        if (released != null && released > 0) {
+            log.warn("[SlotHold] 타이머에 없던 만료 선점 원복 - {}개", released);
+        }
+    }
+
+    public int pendingCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    // 원복된 슬롯이 있으면 상품별 계약 가능 날짜 갱신 이벤트 발행 (커밋 후 처리)
+    private int release(List<Long> slotIds, LocalDateTime now) {
+        int released = availableSlotRepository.releaseExpiredHolds(slotIds, now);
+        if (released > 0) {
+            availableSlotRepository.findProductIdsByIdIn(slotIds)
+                    .forEach(productId -> eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, productId)));
+        }
+        return released;
+    }
+
+    private void register(Long slotId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        synchronized (wheel) {
+            wheel.schedule(slotId, deadline);
+        }
+    }
+}
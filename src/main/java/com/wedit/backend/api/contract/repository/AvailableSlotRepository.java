@@ -1,15 +1,20 @@
 package com.wedit.backend.api.contract.repository;
 
+import com.wedit.backend.api.contract.availability.ProductSlotDate;
+import com.wedit.backend.api.contract.hold.SlotHold;
 import com.wedit.backend.api.vendor.entity.AvailableSlot;
 import com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +27,116 @@ public interface AvailableSlotRepository extends JpaRepository<AvailableSlot, Lo
             Long productId, TimeSlotStatus status, LocalDateTime start, LocalDateTime end);
 
 
+    // 템플릿 달력용 - 상태와 무관하게 저장된 슬롯 전체 (예약된 시간 제외에 사용)
+    List<AvailableSlot> findByProductIdAndStartTimeBetween(Long productId, LocalDateTime start, LocalDateTime end);
+
+
+    Optional<AvailableSlot> findByProductIdAndStartTime(Long productId, LocalDateTime startTime);
+
+
     // 계약 생성 시 비관적 락 걸고 슬롯 조회
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM AvailableSlot s WHERE s.id = :id")
     Optional<AvailableSlot> findByIdWithLock(@Param("id") Long id);
+
+
+    // 락 없이 슬롯 + 상품 조회 (조건부 UPDATE 선점용)
+    @EntityGraph(attributePaths = "product")
+    Optional<AvailableSlot> findWithProductById(Long id);
+
+
+    // 조건부 UPDATE 선점 - 1 이면 선점 성공, 0 이면 이미 예약된 슬롯
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AvailableSlot s SET s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.BOOKED, " +
+            "s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE")
+    int bookIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+
+    // 임시 선점 - 예약 가능 슬롯 또는 만료된 선점만 선점 가능 (1 이면 성공)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AvailableSlot s SET s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED, " +
+            "s.heldByMemberId = :memberId, s.holdExpiresAt = :expiresAt, s.updatedAt = :now " +
+            "WHERE s.id = :id AND (s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE " +
+            "OR (s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED AND s.holdExpiresAt <= :now))")
+    int holdIfAvailable(@Param("id") Long id, @Param("memberId") Long memberId,
+                        @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+
+    // 선점한 회원의 계약 확정 - 만료 전 본인 선점만 확정 가능 (1 이면 성공)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AvailableSlot s SET s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.BOOKED, " +
+            "s.heldByMemberId = null, s.holdExpiresAt = null, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED " +
+            "AND s.heldByMemberId = :memberId AND s.holdExpiresAt > :now")
+    int confirmHold(@Param("id") Long id, @Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+
+    // 선점한 회원의 선점 해제
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AvailableSlot s SET s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE, " +
+            "s.heldByMemberId = null, s.holdExpiresAt = null, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED AND s.heldByMemberId = :memberId")
+    int releaseHold(@Param("id") Long id, @Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+
+    // 만료된 선점 원복 - 그 사이 확정되었거나 다시 선점된 슬롯은 조건에서 제외됨
+    @Modifying
+    @Query("UPDATE AvailableSlot s SET s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE, " +
+            "s.heldByMemberId = null, s.holdExpiresAt = null, s.updatedAt = :now " +
+            "WHERE s.id IN :ids AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED AND s.holdExpiresAt <= :now")
+    int releaseExpiredHolds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+
+    // 만료 시각 인덱스 범위 조회로 만료된 선점 슬롯 (보정용)
+    @Query("SELECT s.id FROM AvailableSlot s " +
+            "WHERE s.holdExpiresAt <= :now AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED")
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now);
+
+
+    // 아직 만료되지 않은 선점 (타이머가 DB 만료 시각보다 먼저 꺼낸 슬롯 재등록용)
+    @Query("SELECT new com.wedit.backend.api.contract.hold.SlotHold(s.id, s.holdExpiresAt) " +
+            "FROM AvailableSlot s WHERE s.id IN :ids " +
+            "AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.RESERVED AND s.holdExpiresAt > :now")
+    List<SlotHold> findPendingHoldsByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+
+    // 가상 슬롯 생성 전 겹치는 row 확인 - 잠금 읽기라 먼저 커밋된 다른 생성까지 포함
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM AvailableSlot s " +
+            "WHERE s.product.id = :productId AND s.startTime < :end AND s.endTime > :start")
+    List<AvailableSlot> findOverlappingForShare(@Param("productId") Long productId,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
+
+
+    @Query("SELECT DISTINCT s.product.id FROM AvailableSlot s WHERE s.id IN :ids")
+    List<Long> findProductIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+
+    // 계약 가능 날짜 비트맵 구축 - 기간 내 예약 가능 슬롯이 있는 상품별 날짜
+    @Query("SELECT DISTINCT new com.wedit.backend.api.contract.availability.ProductSlotDate(" +
+            "s.product.id, CAST(s.startTime AS LocalDate)) " +
+            "FROM AvailableSlot s WHERE s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE " +
+            "AND s.startTime > :from AND s.startTime < :to")
+    List<ProductSlotDate> findAvailableSlotDates(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+
+    @Query("SELECT DISTINCT new com.wedit.backend.api.contract.availability.ProductSlotDate(" +
+            "s.product.id, CAST(s.startTime AS LocalDate)) " +
+            "FROM AvailableSlot s WHERE s.product.id = :productId " +
+            "AND s.status = com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus.AVAILABLE " +
+            "AND s.startTime > :from AND s.startTime < :to")
+    List<ProductSlotDate> findAvailableSlotDatesByProductId(@Param("productId") Long productId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+
+
+    // 기동 시 선점 복구 - holdExpiresAt 인덱스 범위 조회
+    @Query("SELECT new com.wedit.backend.api.contract.hold.SlotHold(s.id, s.holdExpiresAt) " +
+            "FROM AvailableSlot s WHERE s.holdExpiresAt IS NOT NULL")
+    List<SlotHold> findActiveHolds();
+
+
+    boolean existsByIdAndStatusAndHeldByMemberId(Long id, TimeSlotStatus status, Long heldByMemberId);
 }
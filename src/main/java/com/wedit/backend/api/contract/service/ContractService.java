@@ -2,21 +2,32 @@ package com.wedit.backend.api.contract.service;
 
 import com.wedit.backend.api.contract.dto.*;
 import com.wedit.backend.api.contract.entity.Contract;
+import com.wedit.backend.api.contract.hold.SlotHoldTimer;
 import com.wedit.backend.api.contract.repository.AvailableSlotRepository;
 import com.wedit.backend.api.contract.repository.ContractRepository;
 import com.wedit.backend.api.media.service.MediaService;
 import com.wedit.backend.api.member.entity.Member;
 import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.reservation.entity.SlotTemplate;
+import com.wedit.backend.api.reservation.entity.SlotTemplateTarget;
+import com.wedit.backend.api.reservation.repository.SlotTemplateRepository;
+import com.wedit.backend.api.reservation.template.CalendarSlot;
+import com.wedit.backend.api.reservation.template.SlotTemplateCalendar;
 import com.wedit.backend.api.vendor.entity.AvailableSlot;
 import com.wedit.backend.api.vendor.entity.Product;
 import com.wedit.backend.api.vendor.entity.enums.TimeSlotStatus;
 import com.wedit.backend.api.vendor.repository.ProductRepository;
+import com.wedit.backend.common.booking.SlotBookingStrategy;
+import com.wedit.backend.common.event.AvailableSlotChangedEvent;
 import com.wedit.backend.common.exception.BadRequestException;
 import com.wedit.backend.common.exception.NotFoundException;
 import com.wedit.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +37,7 @@ import java.time.YearMonth;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +51,16 @@ public class ContractService {
     private final MemberRepository memberRepository;
     private final MediaService mediaService;
     private final ProductRepository productRepository;
+    private final SlotTemplateRepository slotTemplateRepository;
+    private final SlotTemplateCalendar slotTemplateCalendar;
+    private final SlotHoldTimer slotHoldTimer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${booking.strategy.contract:PESSIMISTIC_LOCK}")
+    private SlotBookingStrategy bookingStrategy;
+
+    @Value("${contract.hold.ttl-minutes:10}")
+    private long holdTtlMinutes;
 
 
     // 사용자가 선택한 모든 달에 대해 계약 가능한 모든 슬롯 조회
@@ -48,6 +70,11 @@ public class ContractService {
         int currentYear = LocalDate.now().getYear();
         LocalDateTime now = LocalDateTime.now();
 
+        // 슬롯 템플릿이 있는 상품은 템플릿 달력으로 계산
+        if (slotTemplateCalendar.hasTemplates(SlotTemplateTarget.CONTRACT, request.productId())) {
+            return templateContractSlots(request, currentYear, now);
+        }
+
         return request.months().stream()
                 .flatMap(month -> {
                     YearMonth yearMonth = YearMonth.of(currentYear, month);
@@ -64,23 +91,65 @@ public class ContractService {
     }
 
     // 계약 생성
+    // 슬롯 선점 방식은 booking.strategy.contract 설정을 따름 (기본 비관적 락)
     public ContractCreateResponseDTO createContract(Long memberId, ContractCreateRequestDTO request) {
 
         Member member = findMemberById(memberId);
-        AvailableSlot slot = findAvailableSlotWithLock(request.availableSlotId());
 
-        slot.book();
+        // 템플릿으로 계산된 가상 슬롯이면 이 시점에 row 생성
+        Long slotId = (request.availableSlotId() != null)
+                ? request.availableSlotId()
+                : materializeSlot(request.productId(), request.startTime());
+
+        Contract savedContract;
+        if (availableSlotRepository.existsByIdAndStatusAndHeldByMemberId(slotId, TimeSlotStatus.RESERVED, memberId)) {
+            savedContract = contractWithHold(member, slotId);
+        } else if (bookingStrategy == SlotBookingStrategy.CONDITIONAL_UPDATE) {
+            savedContract = contractWithConditionalUpdate(member, slotId);
+        } else {
+            savedContract = contractWithPessimisticLock(member, slotId);
+        }
+        eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, savedContract.getProduct().getId()));
 
-        Contract contract = Contract.builder()
-                .member(member)
-                .product(slot.getProduct())
-                .executionDateTime(slot.getStartTime())
-                .finalPrice(slot.getProduct().getBasePrice())
-                .build();
+        return new ContractCreateResponseDTO(savedContract.getId());
+    }
 
-        Contract savedContract = contractRepository.save(contract);
+    // 결제 진행 동안 슬롯 임시 선점 - holdTtlMinutes 안에 계약을 생성하지 않으면 만료 타이머가 예약 가능으로 원복
+    public SlotHoldResponseDTO holdSlot(Long memberId, ContractCreateRequestDTO request) {
 
-        return new ContractCreateResponseDTO(savedContract.getId());
+        Member member = findMemberById(memberId);
+
+        Long slotId = (request.availableSlotId() != null)
+                ? request.availableSlotId()
+                : materializeSlot(request.productId(), request.startTime());
+
+        LocalDateTime now = LocalDateTime.now();
+        AvailableSlot slot = availableSlotRepository.findById(slotId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_SLOT.getMessage()));
+        if (!slot.getStartTime().isAfter(now)) {
+            throw new BadRequestException("이미 지난 계약 가능 시간입니다.");
+        }
+
+        LocalDateTime expiresAt = now.plusMinutes(holdTtlMinutes);
+        if (availableSlotRepository.holdIfAvailable(slotId, member.getId(), expiresAt, now) == 0) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_BOOKED.getMessage());
+        }
+        slotHoldTimer.schedule(slotId, expiresAt);
+        eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, slot.getProduct().getId()));
+
+        log.info("계약 슬롯 선점 - slotId: {}, memberId: {}, 만료: {}", slotId, member.getId(), expiresAt);
+        return new SlotHoldResponseDTO(slotId, expiresAt);
+    }
+
+    // 본인이 선점한 슬롯을 계약 없이 해제
+    public void releaseHold(Long memberId, Long availableSlotId) {
+
+        if (availableSlotRepository.releaseHold(availableSlotId, memberId, LocalDateTime.now()) == 0) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_SLOT.getMessage());
+        }
+        availableSlotRepository.findProductIdsByIdIn(List.of(availableSlotId))
+                .forEach(productId -> eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, productId)));
+        log.info("계약 슬롯 선점 해제 - slotId: {}, memberId: {}", availableSlotId, memberId);
     }
 
     // 마이페이지 계약건 탭 페이징 조회
@@ -175,14 +244,165 @@ public class ContractService {
                 .toList();
 
         availableSlotRepository.saveAll(slots);
+        eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, product.getId()));
 
         log.info("{}개의 계약 가능 슬롯이 상품 '{}'(ID:{})에 성공적으로 등록되었습니다.",
                 slots.size(), product.getName(), product.getId());
     }
 
+    // 반복 규칙(요일, 운영 시간, 휴무일)으로 계약 슬롯 템플릿 등록 - 슬롯 길이는 상품 이용 시간, row 는 계약 시점에 생성
+    public void createSlotTemplate(AvailableSlotTemplateCreateRequestDTO request) {
+
+        Product product = productRepository.findById(request.productId())
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_PRODUCT.getMessage() + " : " + request.productId()));
+
+        final int durationInMinutes = product.getDurationInMinutes();
+        if (durationInMinutes <= 0) {
+            throw new BadRequestException("상품의 이용 시간이 올바르지 않습니다.");
+        }
+
+        SlotTemplate template = slotTemplateRepository.save(SlotTemplate.builder()
+                .target(SlotTemplateTarget.CONTRACT)
+                .ownerId(product.getId())
+                .daysOfWeek(request.daysOfWeek())
+                .openTime(request.openTime())
+                .closeTime(request.closeTime())
+                .slotMinutes(durationInMinutes)
+                .validFrom(request.validFrom())
+                .validUntil(request.validUntil())
+                .blackoutDates(request.blackoutDates())
+                .build());
+        eventPublisher.publishEvent(new AvailableSlotChangedEvent(this, product.getId()));
+
+        log.info("계약 슬롯 템플릿(ID:{})이 상품 '{}'(ID:{})에 등록되었습니다.", template.getId(), product.getName(), product.getId());
+    }
+
 
     // --- 헬퍼 메서드 ---
 
+    private Contract contractWithPessimisticLock(Member member, Long slotId) {
+
+        AvailableSlot slot = findAvailableSlotWithLock(slotId);
+
+        slot.book();
+
+        return contractRepository.save(newContract(member, slot));
+    }
+
+    // 본인이 선점한 슬롯 확정 - 만료 전이면 조건부 UPDATE 로 RESERVED -> BOOKED
+    private Contract contractWithHold(Member member, Long slotId) {
+
+        AvailableSlot slot = availableSlotRepository.findWithProductById(slotId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_SLOT.getMessage()));
+
+        Contract contract = contractRepository.save(newContract(member, slot));
+
+        if (availableSlotRepository.confirmHold(slotId, member.getId(), LocalDateTime.now()) == 0) {
+            log.info("계약 슬롯 선점 만료 - slotId: {}, memberId: {}", slotId, member.getId());
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_SLOT_HOLD_EXPIRED.getMessage());
+        }
+        return contract;
+    }
+
+    // 락 없이 슬롯을 조회해 계약을 저장한 뒤, 마지막 쓰기로 조건부 UPDATE 를 실행해 선점
+    // row 락은 UPDATE 부터 커밋까지만 유지되고, 경쟁에서 진 요청은 계약 저장까지 롤백
+    private Contract contractWithConditionalUpdate(Member member, Long slotId) {
+
+        AvailableSlot slot = availableSlotRepository.findWithProductById(slotId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_SLOT.getMessage()));
+
+        if (slot.getStatus() != TimeSlotStatus.AVAILABLE) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_BOOKED.getMessage());
+        }
+
+        Contract contract = contractRepository.save(newContract(member, slot));
+
+        if (availableSlotRepository.bookIfAvailable(slotId, LocalDateTime.now()) == 0) {
+            log.info("계약 슬롯 선점 실패 - slotId: {}, memberId: {}", slotId, member.getId());
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_BOOKED.getMessage());
+        }
+        return contract;
+    }
+
+    // 가상 슬롯 계약 - 해당 시간 row 가 있으면 그 row 를, 없으면 템플릿 슬롯인지 확인 후 AVAILABLE row 를 생성
+    // 상품 row 를 잠근 뒤 [시작, 종료) 와 겹치는 row 가 있으면 거절 (시작 시간이 다른 계약/등록 슬롯과의 중복 계약 방지)
+    // 같은 시간을 동시에 생성하는 경우는 상품 잠금으로 순서가 정해지고, (product_id, startTime) 유니크 제약이 한 번 더 막음
+    private Long materializeSlot(Long productId, LocalDateTime startTime) {
+
+        if (productId == null || startTime == null) {
+            throw new BadRequestException("계약 슬롯 ID 또는 상품 ID와 시작 시간은 필수입니다.");
+        }
+
+        Optional<AvailableSlot> stored = availableSlotRepository.findByProductIdAndStartTime(productId, startTime);
+        if (stored.isPresent()) {
+            return stored.get().getId();
+        }
+
+        CalendarSlot virtualSlot = slotTemplateCalendar.findVirtualSlot(SlotTemplateTarget.CONTRACT, productId, startTime)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_SLOT.getMessage()));
+        if (!startTime.isAfter(LocalDateTime.now())) {
+            throw new BadRequestException("이미 지난 계약 가능 시간입니다.");
+        }
+
+        productRepository.findForUpdateById(productId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_PRODUCT.getMessage() + " : " + productId));
+        List<AvailableSlot> overlapping = availableSlotRepository.findOverlappingForShare(
+                productId, virtualSlot.startTime(), virtualSlot.endTime());
+        for (AvailableSlot slot : overlapping) {
+            if (slot.getStartTime().equals(startTime)) {
+                return slot.getId();    // 잠금을 기다리는 동안 다른 요청이 같은 시간을 생성
+            }
+        }
+        if (!overlapping.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_BOOKED.getMessage());
+        }
+
+        try {
+            return availableSlotRepository.saveAndFlush(AvailableSlot.builder()
+                    .product(productRepository.getReferenceById(productId))
+                    .startTime(virtualSlot.startTime())
+                    .endTime(virtualSlot.endTime())
+                    .build()).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_BOOKED.getMessage());
+        }
+    }
+
+    private List<AvailableSlotResponseDTO> templateContractSlots(AvailableSlotsRequestDTO request, int currentYear,
+                                                                 LocalDateTime now) {
+
+        Product product = productRepository.findById(request.productId())
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_PRODUCT.getMessage() + " : " + request.productId()));
+
+        return request.months().stream()
+                .flatMap(month -> {
+                    YearMonth yearMonth = YearMonth.of(currentYear, month);
+                    List<CalendarSlot> stored = availableSlotRepository.findByProductIdAndStartTimeBetween(
+                                    product.getId(), yearMonth.atDay(1).atStartOfDay(),
+                                    yearMonth.atEndOfMonth().atTime(java.time.LocalTime.MAX))
+                            .stream()
+                            .map(slot -> new CalendarSlot(slot.getId(), slot.getStartTime(), slot.getEndTime(),
+                                    slot.getStatus() == TimeSlotStatus.AVAILABLE))
+                            .toList();
+
+                    return slotTemplateCalendar.build(SlotTemplateTarget.CONTRACT, product.getId(),
+                            yearMonth.atDay(1), yearMonth.atEndOfMonth(), stored).stream();
+                })
+                .filter(slot -> slot.available() && slot.startTime().isAfter(now))
+                .map(slot -> AvailableSlotResponseDTO.of(product, slot.slotId(), slot.startTime()))
+                .collect(Collectors.toList());
+    }
+
+    private Contract newContract(Member member, AvailableSlot slot) {
+
+        return Contract.builder()
+                .member(member)
+                .product(slot.getProduct())
+                .executionDateTime(slot.getStartTime())
+                .finalPrice(slot.getProduct().getBasePrice())
+                .build();
+    }
+
     private Member findMemberById(Long memberId) {
 
         return memberRepository.findById(memberId)
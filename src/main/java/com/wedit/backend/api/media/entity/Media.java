@@ -43,4 +43,8 @@ public class Media extends BaseTimeEntity {
     private String groupDescription;
 
     private int sortOrder;
+
+    public void updateSortOrder(int sortOrder) {
+        this.sortOrder = sortOrder;
+    }
 }
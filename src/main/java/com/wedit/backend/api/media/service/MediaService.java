@@ -1,6 +1,8 @@
 package com.wedit.backend.api.media.service;
 
+import com.wedit.backend.api.aws.s3.service.S3DeletionQueue;
 import com.wedit.backend.api.aws.s3.service.S3Service;
+import com.wedit.backend.api.media.dto.MediaRequestDTO;
 import com.wedit.backend.api.media.entity.Media;
 import com.wedit.backend.api.media.entity.enums.MediaDomain;
 import com.wedit.backend.api.media.repository.MediaRepository;
@@ -8,8 +10,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,7 @@ public class MediaService {
 
     private final MediaRepository mediaRepository;
     private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
 
     /**
      * 특정 소유자에 속한 모든 미디어의 'CDN URL 목록'을 반환합니다.
@@ -75,9 +81,50 @@ public class MediaService {
         return s3Service.toCdnUrl(key);
     }
 
+    /**
+     * 특정 소유자의 미디어를 요청 목록과 S3 key 기준으로 맞춥니다.
+     * 그대로 남은 미디어는 정렬 순서만 갱신하고, 새 key 만 저장하며, 빠진 key 만 삭제합니다.
+     * 빠진 key 의 S3 파일은 커밋 후 S3DeletionQueue 에서 비동기로 삭제됩니다.
+     * @param ownerDomain 소유자 도메인
+     * @param ownerId 소유자 ID
+     * @param requested 수정 후 미디어 목록 (null 이면 모두 삭제)
+     */
+    @Transactional
+    public void syncMedia(MediaDomain ownerDomain, Long ownerId, List<MediaRequestDTO> requested) {
+
+        // 같은 key 가 여러 번 오면 첫 번째만 사용
+        Map<String, MediaRequestDTO> requestedByKey = new LinkedHashMap<>();
+        if (requested != null) {
+            for (MediaRequestDTO mediaDto : requested) {
+                requestedByKey.putIfAbsent(mediaDto.getMediaKey(), mediaDto);
+            }
+        }
+
+        List<Media> removed = new ArrayList<>();
+        for (Media media : mediaRepository.findByOwnerDomainAndOwnerIdOrderBySortOrderAsc(ownerDomain, ownerId)) {
+            MediaRequestDTO kept = requestedByKey.remove(media.getMediaKey());
+            if (kept == null) {
+                removed.add(media);
+            } else if (kept.getSortOrder() != media.getSortOrder()) {
+                media.updateSortOrder(kept.getSortOrder());
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            mediaRepository.deleteAllInBatch(removed);
+            s3DeletionQueue.enqueue(removed.stream().map(Media::getMediaKey).toList());
+        }
+        if (!requestedByKey.isEmpty()) {
+            mediaRepository.saveAll(requestedByKey.values().stream()
+                    .map(mediaDto -> mediaDto.toEntity(ownerDomain, ownerId))
+                    .toList());
+        }
+    }
+
     /**
      * 특정 소유자와 관련된 모든 Media 정보 및 S3 파일을 삭제합니다.
      * 애플리케이션 레벨에서 참조 무결성을 보장
+     * S3 파일은 커밋 후 S3DeletionQueue 에서 비동기로 삭제됩니다.
      * @param ownerDomain 삭제할 미디어의 소유자 도메인
      * @param ownerId 삭제할 미디어의 소유자 ID
      */
@@ -90,14 +137,13 @@ public class MediaService {
             return;
         }
 
-        // 2. S3에서 실제 파일들을 삭제
-        List<String> keysToDelete = mediaList.stream()
-                .map(Media::getMediaKey)
-                .collect(Collectors.toList());
-        s3Service.deleteFiles(keysToDelete);
-
-        // 3. DB에서 Media 데이터들을 삭제
+        // 2. DB에서 Media 데이터들을 삭제
         mediaRepository.deleteAllInBatch(mediaList);
+
+        // 3. 커밋 후 S3에서 실제 파일들을 삭제하도록 등록
+        s3DeletionQueue.enqueue(mediaList.stream()
+                .map(Media::getMediaKey)
+                .collect(Collectors.toList()));
     }
 
     /**
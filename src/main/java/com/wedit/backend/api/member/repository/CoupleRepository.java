@@ -18,6 +18,12 @@ public interface CoupleRepository extends JpaRepository<Couple, Long> {
     Optional<Couple> findByCoupleCode(String coupleCode);
 
 
+    // 커플 연동 시 동시에 같은 코드로 연동하는 요청이 한 명만 성공하도록 락
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Couple c WHERE c.coupleCode = :coupleCode")
+    Optional<Couple> findByCoupleCodeWithLock(@Param("coupleCode") String coupleCode);
+
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Couple c WHERE c.groom = :member OR c.bride = :member")
     Optional<Couple> findByGroomOrBrideWithLock(@Param("member") Member member);
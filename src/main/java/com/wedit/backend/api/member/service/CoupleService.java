@@ -75,7 +75,7 @@ public class CoupleService {
 
 		Member newPartner = findMemberById(memberId);
 
-		Couple couple = coupleRepository.findByCoupleCode(coupleCode)
+		Couple couple = coupleRepository.findByCoupleCodeWithLock(coupleCode)
 			.orElseThrow(() -> {
 				log.warn("유효하지 않은 커플 코드로 연동 시도. code: {}", coupleCode);
 				return new BadRequestException(ErrorStatus.BAD_REQUEST_INVALID_COUPLE_CODE.getMessage());
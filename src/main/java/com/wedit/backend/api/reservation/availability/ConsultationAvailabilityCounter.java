@@ -0,0 +1,226 @@
+package com.wedit.backend.api.reservation.availability;
+
+import com.wedit.backend.api.reservation.dto.DateAvailabilityDTO;
+import com.wedit.backend.api.reservation.entity.ConsultationDailyAvailability;
+import com.wedit.backend.api.reservation.entity.ConsultationSlot;
+import com.wedit.backend.api.reservation.repository.ConsultationDailyAvailabilityRepository;
+import com.wedit.backend.api.reservation.repository.ConsultationSlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 업체별, 날짜별 상담 슬롯 카운터(consultation_daily_availability) 관리와 월간 달력 캐시
+ * - 슬롯 등록 / 예약 / 예약 취소 시 호출 측 트랜잭션 안에서 해당 날짜 row 를 증감
+ * - 이번 달, 다음 달 달력은 업체별로 메모리에 캐시하고, 카운터 변경 커밋 후 해당 월만 제거
+ * 기동 후 첫 보정(ConsultationAvailabilityReconciler)이 끝나기 전에는 isReady() 가 false 이며, 호출 측은 슬롯 테이블로 계산해야 합니다.
+ */
+@Slf4j
+@Component
+public class ConsultationAvailabilityCounter {
+
+    private final ConsultationDailyAvailabilityRepository dailyAvailabilityRepository;
+    private final ConsultationSlotRepository consultationSlotRepository;
+
+    private final int maxEntries;
+    private final Map<MonthKey, List<DateAvailabilityDTO>> cache;
+    // 캐시 제거 횟수 - 조회 도중 제거가 있었다면 조회 결과를 저장하지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    public ConsultationAvailabilityCounter(ConsultationDailyAvailabilityRepository dailyAvailabilityRepository,
+                                           ConsultationSlotRepository consultationSlotRepository,
+                                           @Value("${reservation.availability.cache.max-entries:10000}") int maxEntries) {
+        this.dailyAvailabilityRepository = dailyAvailabilityRepository;
+        this.consultationSlotRepository = consultationSlotRepository;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MonthKey, List<DateAvailabilityDTO>> eldest) {
+                return size() > ConsultationAvailabilityCounter.this.maxEntries;
+            }
+        };
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ConsultationAvailabilityReconciler 에서 첫 보정 완료 후 호출
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * 새로 등록된 슬롯 수만큼 날짜별 전체 / 예약 가능 수를 증가시킵니다. (호출 측 트랜잭션에 참여)
+     */
+    public void slotsCreated(Long vendorId, Collection<ConsultationSlot> slots) {
+        Map<LocalDate, Long> countsByDate = slots.stream()
+                .collect(Collectors.groupingBy(slot -> slot.getStartTime().toLocalDate(), TreeMap::new,
+                        Collectors.counting()));
+        countsByDate.forEach((date, count) -> dailyAvailabilityRepository.addSlots(vendorId, date, count.intValue()));
+        evictAfterCommit(vendorId, countsByDate.keySet().stream().map(YearMonth::from).collect(Collectors.toSet()));
+    }
+
+    // 슬롯 예약 - 해당 날짜 예약 가능 수 감소
+    public void slotBooked(ConsultationSlot slot) {
+        adjustAvailable(slot, -1);
+    }
+
+    // 예약 취소로 슬롯 반환 - 해당 날짜 예약 가능 수 증가
+    public void slotReleased(ConsultationSlot slot) {
+        adjustAvailable(slot, 1);
+    }
+
+    /**
+     * 월간 날짜별 예약 가능 현황
+     * 이번 달, 다음 달은 캐시에서 반환하고, 그 외 월은 카운터 테이블을 바로 조회합니다.
+     */
+    public List<DateAvailabilityDTO> getMonthlyAvailability(Long vendorId, YearMonth yearMonth) {
+        YearMonth currentMonth = YearMonth.now();
+        if (!yearMonth.equals(currentMonth) && !yearMonth.equals(currentMonth.plusMonths(1))) {
+            return loadMonth(vendorId, yearMonth);
+        }
+
+        MonthKey key = new MonthKey(vendorId, yearMonth);
+        synchronized (cache) {
+            List<DateAvailabilityDTO> cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long version = invalidations.get();
+        List<DateAvailabilityDTO> loaded = loadMonth(vendorId, yearMonth);
+        synchronized (cache) {
+            if (version == invalidations.get()) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 업체들의 카운터를 consultation_slots 기준으로 다시 계산해 어긋난 row 만 고칩니다.
+     *
+     * @return 수정/추가/삭제된 row 수
+     */
+    @Transactional
+    public int reconcile(Collection<Long> vendorIds) {
+        if (vendorIds.isEmpty()) {
+            return 0;
+        }
+        // 카운터 row 를 먼저 잠근 뒤 슬롯을 집계하므로, 진행 중인 예약의 증감은 보정 결과 위에 적용됨
+        Set<MonthKey> touchedMonths = new HashSet<>();
+        Map<DayKey, ConsultationDailyAvailability> counters = dailyAvailabilityRepository.findForUpdateByVendorIdIn(vendorIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        counter -> new DayKey(counter.getVendor().getId(), counter.getSlotDate()), Function.identity()));
+
+        int repaired = 0;
+        for (DailySlotCount count : consultationSlotRepository.countDailySlotsByVendorIdIn(vendorIds)) {
+            DayKey key = new DayKey(count.vendorId(), count.slotDate());
+            ConsultationDailyAvailability counter = counters.remove(key);
+            int total = count.totalSlots().intValue();
+            int available = count.availableSlots().intValue();
+
+            if (counter == null) {
+                // 잠근 뒤 동시 슬롯 등록(addSlots)으로 row 가 생겼어도 유니크 제약 위반으로 배치 전체가 롤백되지 않도록 upsert
+                dailyAvailabilityRepository.upsertSlots(count.vendorId(), count.slotDate(), total, available);
+            } else if (!counter.reconcile(total, available)) {
+                continue;
+            }
+            touchedMonths.add(key.month());
+            repaired++;
+        }
+
+        // 슬롯이 없는 날짜의 카운터
+        if (!counters.isEmpty()) {
+            dailyAvailabilityRepository.deleteAll(counters.values());
+            counters.keySet().forEach(key -> touchedMonths.add(key.month()));
+            repaired += counters.size();
+        }
+
+        if (repaired > 0) {
+            log.warn("[DailyAvailability] 상담 슬롯 카운터 보정 - {}개 row", repaired);
+            touchedMonths.forEach(key -> evictAfterCommit(key.vendorId(), Set.of(key.yearMonth())));
+        }
+        return repaired;
+    }
+
+    private void adjustAvailable(ConsultationSlot slot, int delta) {
+        Long vendorId = slot.getVendor().getId();
+        LocalDate date = slot.getStartTime().toLocalDate();
+        if (dailyAvailabilityRepository.adjustAvailableSlots(vendorId, date, delta) == 0) {
+            // 카운터 도입 이전 슬롯 등 row 가 없는 경우 - 보정 작업에서 생성
+            log.debug("[DailyAvailability] 카운터 row 없음 - vendorId: {}, date: {}", vendorId, date);
+        }
+        evictAfterCommit(vendorId, Set.of(YearMonth.from(date)));
+    }
+
+    private List<DateAvailabilityDTO> loadMonth(Long vendorId, YearMonth yearMonth) {
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        Map<LocalDate, ConsultationDailyAvailability> byDate = dailyAvailabilityRepository
+                .findByVendorIdAndSlotDateBetweenOrderBySlotDateAsc(vendorId, start, end)
+                .stream()
+                .collect(Collectors.toMap(ConsultationDailyAvailability::getSlotDate, Function.identity()));
+
+        return start.datesUntil(end.plusDays(1))
+                .map(date -> {
+                    ConsultationDailyAvailability counter = byDate.get(date);
+                    int total = (counter != null) ? counter.getTotalSlots() : 0;
+                    int available = (counter != null) ? Math.max(counter.getAvailableSlots(), 0) : 0;
+                    return new DateAvailabilityDTO(date, available > 0, total, available);
+                })
+                .toList();
+    }
+
+    // 커밋 전에 제거하면 커밋 전 값이 다시 캐시될 수 있으므로 커밋 후 제거
+    private void evictAfterCommit(Long vendorId, Set<YearMonth> months) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(vendorId, months);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(vendorId, months);
+            }
+        });
+    }
+
+    private void evict(Long vendorId, Set<YearMonth> months) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            months.forEach(month -> cache.remove(new MonthKey(vendorId, month)));
+        }
+    }
+
+    private record MonthKey(Long vendorId, YearMonth yearMonth) {
+    }
+
+    private record DayKey(Long vendorId, LocalDate date) {
+
+        MonthKey month() {
+            return new MonthKey(vendorId, YearMonth.from(date));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.wedit.backend.api.reservation.availability;
+
+import com.wedit.backend.api.vendor.repository.VendorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일별 상담 슬롯 카운터 보정
+ * - 기동 시 1회: 카운터 도입 이전 슬롯의 row 생성 및 보정, 완료 후 월간 달력이 카운터를 사용하기 시작
+ * - 매일 새벽 (reservation.availability.reconcile-cron): 증감 누락 등으로 어긋난 row 수정
+ * 업체를 BATCH_SIZE 개씩 나누어 배치마다 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsultationAvailabilityReconciler implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final VendorRepository vendorRepository;
+    private final ConsultationAvailabilityCounter availabilityCounter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcileAll();
+        availabilityCounter.markReady();
+    }
+
+    @Scheduled(cron = "${reservation.availability.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        long startTime = System.currentTimeMillis();
+        int repaired = 0;
+        long afterId = 0L;
+        List<Long> vendorIds;
+        do {
+            vendorIds = vendorRepository.findIdsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (vendorIds.isEmpty()) {
+                break;
+            }
+            repaired += availabilityCounter.reconcile(vendorIds);
+            afterId = vendorIds.get(vendorIds.size() - 1);
+        } while (vendorIds.size() == BATCH_SIZE);
+
+        log.info("[DailyAvailability] 상담 슬롯 카운터 보정 완료 - 수정 {}개 row, 소요시간: {}ms",
+                repaired, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,9 @@
+package com.wedit.backend.api.reservation.availability;
+
+import java.time.LocalDate;
+
+/**
+ * consultation_slots 기준 업체별, 날짜별 슬롯 수 (카운터 보정용 집계 row)
+ */
+public record DailySlotCount(Long vendorId, LocalDate slotDate, Long totalSlots, Long availableSlots) {
+}
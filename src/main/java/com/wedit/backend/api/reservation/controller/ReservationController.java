@@ -238,6 +238,24 @@ public class ReservationController {
         return ApiResponse.successOnly(SuccessStatus.CONSULTATION_TIME_SLOT_CREATE_SUCCESS);
     }
 
+    @Operation(
+            summary = "상담 슬롯 템플릿 등록",
+            description = """
+                요일, 운영 시간, 상담 길이, 적용 기간, 휴무일로 업체의 상담 가능 시간을 규칙으로 등록합니다.
+                
+                - 슬롯 row 를 미리 만들지 않고, 조회 시 요청 기간만 계산합니다. (템플릿 슬롯은 `slotId` 가 null)
+                - 템플릿 슬롯 예약 시에는 `slotId` 대신 `vendorId` 와 `startTime` 을 전달합니다.
+                """
+    )
+    @PostMapping("/reservation/slot-templates")
+    public ResponseEntity<ApiResponse<Void>> createConsultationSlotTemplate(
+            @Valid @RequestBody ConsultationSlotTemplateCreateRequestDTO request) {
+
+        reservationService.createSlotTemplate(request);
+
+        return ApiResponse.successOnly(SuccessStatus.CONSULTATION_SLOT_TEMPLATE_CREATE_SUCCESS);
+    }
+
 
     // --- 헬퍼 메서드 ---
 
@@ -0,0 +1,53 @@
+package com.wedit.backend.api.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record ConsultationSlotTemplateCreateRequestDTO(
+
+        @Schema(description = "상담 시간을 등록할 업체의 ID")
+        @NotNull
+        Long vendorId,
+
+        @Schema(description = "상담 요일 목록", example = "[\"SATURDAY\", \"SUNDAY\"]")
+        @NotEmpty
+        List<@NotNull DayOfWeek> daysOfWeek,
+
+        @Schema(description = "첫 상담 시작 시각", example = "10:00")
+        @NotNull
+        LocalTime openTime,
+
+        @Schema(description = "마지막 상담 종료 시각", example = "18:00")
+        @NotNull
+        LocalTime closeTime,
+
+        @Schema(description = "상담 1회 길이(분)", example = "30")
+        @NotNull @Min(10) @Max(480)
+        Integer slotMinutes,
+
+        @Schema(description = "적용 시작일")
+        @NotNull
+        LocalDate validFrom,
+
+        @Schema(description = "적용 종료일 (없으면 계속 적용)")
+        LocalDate validUntil,
+
+        @Schema(description = "휴무일 목록")
+        List<@NotNull LocalDate> blackoutDates
+) {
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "종료 시각은 시작 시각 이후여야 합니다.")
+    public boolean isTimeRangeValid() {
+        return openTime == null || closeTime == null || openTime.isBefore(closeTime);
+    }
+}
@@ -1,10 +1,27 @@
 package com.wedit.backend.api.reservation.dto;
 
-import jakarta.validation.constraints.NotNull;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.time.LocalDateTime;
 
 // 상담 예약 생성 시 사용되는 요청 DTO
+// 등록된 슬롯은 slotId, 템플릿으로 계산된 가상 슬롯(slotId 가 null)은 vendorId + startTime 으로 예약
 public record ReservationRequestDTO (
 
-        @NotNull(message = "상담 시간 ID는 필수입니다.")
-        Long slotId
-) {}
+        @Schema(description = "상담 시간 ID (등록된 슬롯)")
+        Long slotId,
+
+        @Schema(description = "업체 ID (가상 슬롯 예약 시)")
+        Long vendorId,
+
+        @Schema(description = "상담 시작 시간 (가상 슬롯 예약 시)")
+        LocalDateTime startTime
+) {
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "상담 시간 ID 또는 업체 ID와 시작 시간은 필수입니다.")
+    public boolean isSlotSpecified() {
+        return slotId != null || (vendorId != null && startTime != null);
+    }
+}
@@ -1,6 +1,8 @@
 package com.wedit.backend.api.reservation.dto;
 
 import com.wedit.backend.api.reservation.entity.ConsultationSlot;
+import com.wedit.backend.api.reservation.entity.SlotStatus;
+import com.wedit.backend.api.reservation.template.CalendarSlot;
 import java.time.LocalDateTime;
 
 // 상담 가능한 시간 슬롯 정보를 담는 응답 DTO
@@ -21,4 +23,15 @@ public record SlotResponseDTO(
                 slot.getStatus().name()
         );
     }
+
+    // 템플릿 달력 슬롯 -> SlotResponseDTO (가상 슬롯은 slotId 가 null)
+    public static SlotResponseDTO from(CalendarSlot slot) {
+
+        return new SlotResponseDTO(
+                slot.slotId(),
+                slot.startTime(),
+                slot.endTime(),
+                (slot.available() ? SlotStatus.AVAILABLE : SlotStatus.BOOKED).name()
+        );
+    }
 }
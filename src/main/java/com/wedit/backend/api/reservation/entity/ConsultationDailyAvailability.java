@@ -0,0 +1,57 @@
+package com.wedit.backend.api.reservation.entity;
+
+import com.wedit.backend.api.vendor.entity.Vendor;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 업체별, 날짜별 상담 슬롯 카운터 (전체 / 예약 가능)
+ * 슬롯 등록, 예약, 예약 취소 시 같은 트랜잭션에서 증감되며, 월간 달력은 이 테이블의 최대 31개 row 만 읽습니다.
+ * 카운터가 어긋나면 ConsultationAvailabilityReconciler 가 consultation_slots 기준으로 다시 맞춥니다.
+ */
+@Entity
+@Table(name = "consultation_daily_availability", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_consultation_daily_availability", columnNames = {"vendor_id", "slotDate"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConsultationDailyAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vendor_id", nullable = false)
+    private Vendor vendor;
+
+    @Column(nullable = false)
+    private LocalDate slotDate;
+
+    @Column(nullable = false)
+    private int totalSlots;
+
+    @Column(nullable = false)
+    private int availableSlots;
+
+    public ConsultationDailyAvailability(Vendor vendor, LocalDate slotDate, int totalSlots, int availableSlots) {
+        this.vendor = vendor;
+        this.slotDate = slotDate;
+        this.totalSlots = totalSlots;
+        this.availableSlots = availableSlots;
+    }
+
+    // 재계산 결과로 교체 (변경이 있으면 true)
+    public boolean reconcile(int totalSlots, int availableSlots) {
+        if (this.totalSlots == totalSlots && this.availableSlots == availableSlots) {
+            return false;
+        }
+        this.totalSlots = totalSlots;
+        this.availableSlots = availableSlots;
+        return true;
+    }
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "consultation_slots")
+@Table(name = "consultation_slots", uniqueConstraints = {
+        // 한 업체에 대해 동일한 시작 시간을 가진 슬롯은 유일 (가상 슬롯 동시 생성 시 한쪽만 성공)
+        // 제약 추가 전 기존 중복 row 는 정리 필요 - 예약된 row 를 남기고 나머지 AVAILABLE row 삭제
+        @UniqueConstraint(columnNames = {"vendor_id", "startTime"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ConsultationSlot extends BaseTimeEntity {
 
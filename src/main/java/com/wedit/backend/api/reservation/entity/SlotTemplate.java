@@ -0,0 +1,128 @@
+package com.wedit.backend.api.reservation.entity;
+
+import com.wedit.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 규칙으로 정의한 슬롯 템플릿
+ * 요일, 운영 시간, 슬롯 길이, 적용 기간, 휴무일로 슬롯 시작 시간을 계산하며, 슬롯 row 는 예약될 때만 생성됩니다.
+ * (AVAILABLE 슬롯을 미리 저장하지 않으므로 저장/조회 비용이 달력 크기가 아닌 예약 수에 비례)
+ */
+@Entity
+@Table(name = "slot_templates", indexes = {
+        @Index(name = "idx_slot_template_owner", columnList = "target, ownerId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlotTemplate extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SlotTemplateTarget target;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private int daysOfWeekMask;     // 적용 요일 비트 (월요일 = 1 << 0)
+
+    @Column(nullable = false)
+    private LocalTime openTime;
+
+    @Column(nullable = false)
+    private LocalTime closeTime;    // 마지막 슬롯 종료 시각 상한
+
+    @Column(nullable = false)
+    private int slotMinutes;
+
+    @Column(nullable = false)
+    private LocalDate validFrom;
+
+    private LocalDate validUntil;   // null 이면 종료일 없음
+
+    @ElementCollection
+    @CollectionTable(name = "slot_template_blackout_dates", joinColumns = @JoinColumn(name = "slot_template_id"))
+    @Column(name = "blackout_date", nullable = false)
+    private Set<LocalDate> blackoutDates = new HashSet<>();
+
+    @Builder
+    public SlotTemplate(SlotTemplateTarget target, Long ownerId, Collection<DayOfWeek> daysOfWeek, LocalTime openTime,
+                        LocalTime closeTime, int slotMinutes, LocalDate validFrom, LocalDate validUntil,
+                        Collection<LocalDate> blackoutDates) {
+        this.target = target;
+        this.ownerId = ownerId;
+        this.daysOfWeekMask = toMask(daysOfWeek);
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+        this.slotMinutes = slotMinutes;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+        if (blackoutDates != null) {
+            this.blackoutDates.addAll(blackoutDates);
+        }
+    }
+
+    /**
+     * 해당 날짜의 슬롯 시작 시간 목록 (적용 기간 밖, 적용 요일 아님, 휴무일이면 빈 목록)
+     */
+    public List<LocalDateTime> startTimesOn(LocalDate date) {
+        if (!appliesTo(date)) {
+            return List.of();
+        }
+        List<LocalDateTime> startTimes = new ArrayList<>();
+        LocalDateTime close = date.atTime(closeTime);
+        for (LocalDateTime start = date.atTime(openTime);
+             !start.plusMinutes(slotMinutes).isAfter(close);
+             start = start.plusMinutes(slotMinutes)) {
+            startTimes.add(start);
+        }
+        return startTimes;
+    }
+
+    // 해당 시작 시간이 이 템플릿이 만드는 슬롯인지
+    public boolean generates(LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        if (!appliesTo(date)) {
+            return false;
+        }
+        LocalTime time = startTime.toLocalTime();
+        if (time.isBefore(openTime) || startTime.plusMinutes(slotMinutes).isAfter(date.atTime(closeTime))) {
+            return false;
+        }
+        return Duration.between(openTime, time).toNanos() % Duration.ofMinutes(slotMinutes).toNanos() == 0;
+    }
+
+    private boolean appliesTo(LocalDate date) {
+        return !date.isBefore(validFrom)
+                && (validUntil == null || !date.isAfter(validUntil))
+                && (daysOfWeekMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0
+                && !blackoutDates.contains(date);
+    }
+
+    private static int toMask(Collection<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        for (DayOfWeek day : daysOfWeek) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+}
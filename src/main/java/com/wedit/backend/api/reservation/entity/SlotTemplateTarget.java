@@ -0,0 +1,7 @@
+package com.wedit.backend.api.reservation.entity;
+
+// 슬롯 템플릿 적용 대상 (ownerId 의 의미)
+public enum SlotTemplateTarget {
+    CONSULTATION,   // 업체 상담 슬롯 - ownerId = vendorId
+    CONTRACT        // 상품 계약 슬롯 - ownerId = productId
+}
@@ -0,0 +1,51 @@
+package com.wedit.backend.api.reservation.repository;
+
+import com.wedit.backend.api.reservation.entity.ConsultationDailyAvailability;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConsultationDailyAvailabilityRepository extends JpaRepository<ConsultationDailyAvailability, Long> {
+
+    // 월간 달력 조회 - (vendor_id, slot_date) 유니크 인덱스 범위
+    List<ConsultationDailyAvailability> findByVendorIdAndSlotDateBetweenOrderBySlotDateAsc(
+            Long vendorId, LocalDate start, LocalDate end);
+
+    // 카운터 보정용 - 보정 중 예약 증감이 끼어들지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ConsultationDailyAvailability a WHERE a.vendor.id IN :vendorIds")
+    List<ConsultationDailyAvailability> findForUpdateByVendorIdIn(@Param("vendorIds") Collection<Long> vendorIds);
+
+    // 슬롯 등록 - 해당 날짜 row 가 없으면 생성, 있으면 전체/예약 가능 수를 함께 증가
+    @Modifying
+    @Query(value = "INSERT INTO consultation_daily_availability (vendor_id, slot_date, total_slots, available_slots) " +
+            "VALUES (:vendorId, :slotDate, :count, :count) " +
+            "ON DUPLICATE KEY UPDATE total_slots = total_slots + :count, available_slots = available_slots + :count",
+            nativeQuery = true)
+    int addSlots(@Param("vendorId") Long vendorId, @Param("slotDate") LocalDate slotDate, @Param("count") int count);
+
+    // 카운터 보정 - 잠글 row 가 없던 날짜는 그 사이 슬롯 등록으로 생길 수 있으므로, 있으면 보정 값으로 덮어씀
+    @Modifying
+    @Query(value = "INSERT INTO consultation_daily_availability (vendor_id, slot_date, total_slots, available_slots) " +
+            "VALUES (:vendorId, :slotDate, :total, :available) " +
+            "ON DUPLICATE KEY UPDATE total_slots = :total, available_slots = :available",
+            nativeQuery = true)
+    int upsertSlots(@Param("vendorId") Long vendorId, @Param("slotDate") LocalDate slotDate,
+                    @Param("total") int total, @Param("available") int available);
+
+    // 예약(-1) / 예약 취소(+1)
+    @Modifying
+    @Query("UPDATE ConsultationDailyAvailability a SET a.availableSlots = a.availableSlots + :delta " +
+            "WHERE a.vendor.id = :vendorId AND a.slotDate = :slotDate")
+    int adjustAvailableSlots(@Param("vendorId") Long vendorId, @Param("slotDate") LocalDate slotDate,
+                             @Param("delta") int delta);
+}
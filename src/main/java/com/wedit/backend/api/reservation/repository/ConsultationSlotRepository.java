@@ -1,14 +1,18 @@
 package com.wedit.backend.api.reservation.repository;
 
+import com.wedit.backend.api.reservation.availability.DailySlotCount;
 import com.wedit.backend.api.reservation.entity.ConsultationSlot;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +21,42 @@ public interface ConsultationSlotRepository extends JpaRepository<ConsultationSl
 
     List<ConsultationSlot> findByVendorIdAndStartTimeBetween(Long vendorId, LocalDateTime start, LocalDateTime end);
 
+    Optional<ConsultationSlot> findByVendorIdAndStartTime(Long vendorId, LocalDateTime startTime);
+
+    // 가상 슬롯 생성 전 겹치는 row 확인 - 잠금 읽기라 먼저 커밋된 다른 생성까지 포함
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT cs FROM ConsultationSlot cs " +
+            "WHERE cs.vendor.id = :vendorId AND cs.startTime < :end AND cs.endTime > :start")
+    List<ConsultationSlot> findOverlappingForShare(@Param("vendorId") Long vendorId,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
+
+    // 개별 슬롯 등록 시 이미 등록된 시작 시간
+    @Query("SELECT cs.startTime FROM ConsultationSlot cs WHERE cs.vendor.id = :vendorId AND cs.startTime IN :startTimes")
+    List<LocalDateTime> findStartTimesByVendorIdAndStartTimeIn(@Param("vendorId") Long vendorId,
+                                                               @Param("startTimes") Collection<LocalDateTime> startTimes);
+
     // 비관 락
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT cs FROM ConsultationSlot cs WHERE cs.id = :id")
     Optional<ConsultationSlot> findByIdWithPessimisticLock(@Param("id") Long id);
+
+    // 락 없이 슬롯 + 업체 조회 (조건부 UPDATE 선점용)
+    @EntityGraph(attributePaths = "vendor")
+    Optional<ConsultationSlot> findWithVendorById(Long id);
+
+    // 조건부 UPDATE 선점 - 1 이면 선점 성공, 0 이면 이미 예약된 슬롯
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ConsultationSlot cs SET cs.status = com.wedit.backend.api.reservation.entity.SlotStatus.BOOKED, " +
+            "cs.updatedAt = :now " +
+            "WHERE cs.id = :id AND cs.status = com.wedit.backend.api.reservation.entity.SlotStatus.AVAILABLE")
+    int bookIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 업체별, 날짜별 전체 / 예약 가능 슬롯 수 (일별 카운터 보정용)
+    @Query("SELECT new com.wedit.backend.api.reservation.availability.DailySlotCount(" +
+            "cs.vendor.id, CAST(cs.startTime AS LocalDate), COUNT(cs), " +
+            "SUM(CASE WHEN cs.status = com.wedit.backend.api.reservation.entity.SlotStatus.AVAILABLE THEN 1 ELSE 0 END)) " +
+            "FROM ConsultationSlot cs WHERE cs.vendor.id IN :vendorIds " +
+            "GROUP BY cs.vendor.id, CAST(cs.startTime AS LocalDate)")
+    List<DailySlotCount> countDailySlotsByVendorIdIn(@Param("vendorIds") Collection<Long> vendorIds);
 }
@@ -0,0 +1,24 @@
+package com.wedit.backend.api.reservation.repository;
+
+import com.wedit.backend.api.reservation.entity.SlotTemplate;
+import com.wedit.backend.api.reservation.entity.SlotTemplateTarget;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SlotTemplateRepository extends JpaRepository<SlotTemplate, Long> {
+
+    // 휴무일 컬렉션까지 한 번에 조회
+    @EntityGraph(attributePaths = "blackoutDates")
+    List<SlotTemplate> findByTargetAndOwnerId(SlotTemplateTarget target, Long ownerId);
+
+    boolean existsByTargetAndOwnerId(SlotTemplateTarget target, Long ownerId);
+
+    @Query("SELECT DISTINCT t.ownerId FROM SlotTemplate t WHERE t.target = :target")
+    List<Long> findOwnerIdsByTarget(@Param("target") SlotTemplateTarget target);
+}
@@ -6,20 +6,30 @@ import com.wedit.backend.api.member.repository.MemberRepository;
 import com.wedit.backend.api.notification.dto.NotificationEvent;
 import com.wedit.backend.api.notification.entity.NotificationType;
 import com.wedit.backend.api.notification.entity.TargetDomainType;
+import com.wedit.backend.api.reservation.availability.ConsultationAvailabilityCounter;
 import com.wedit.backend.api.reservation.dto.*;
 import com.wedit.backend.api.reservation.entity.ConsultationSlot;
 import com.wedit.backend.api.reservation.entity.Reservation;
 import com.wedit.backend.api.reservation.entity.SlotStatus;
+import com.wedit.backend.api.reservation.entity.SlotTemplate;
+import com.wedit.backend.api.reservation.entity.SlotTemplateTarget;
 import com.wedit.backend.api.reservation.repository.ConsultationSlotRepository;
 import com.wedit.backend.api.reservation.repository.ReservationRepository;
+import com.wedit.backend.api.reservation.repository.SlotTemplateRepository;
+import com.wedit.backend.api.reservation.template.CalendarSlot;
+import com.wedit.backend.api.reservation.template.SlotTemplateCalendar;
 import com.wedit.backend.api.vendor.entity.Vendor;
 import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.common.booking.SlotBookingStrategy;
 import com.wedit.backend.common.event.ReservationCancelledEvent;
 import com.wedit.backend.common.event.ReservationCreatedEvent;
+import com.wedit.backend.common.exception.BadRequestException;
 import com.wedit.backend.common.exception.ForbiddenException;
 import com.wedit.backend.common.exception.NotFoundException;
 import com.wedit.backend.common.response.ErrorStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -29,8 +39,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -44,6 +57,12 @@ public class ReservationService {
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final VendorRepository vendorRepository;
+    private final ConsultationAvailabilityCounter availabilityCounter;
+    private final SlotTemplateRepository slotTemplateRepository;
+    private final SlotTemplateCalendar slotTemplateCalendar;
+
+    @Value("${booking.strategy.consultation:PESSIMISTIC_LOCK}")
+    private SlotBookingStrategy bookingStrategy;
 
     // 특정 업체의 해당 월 상담 가능 시간 목록을 모두 조회
     // 인메모리가 아닌 DB 조회로 서버 부담 감소
@@ -56,40 +75,29 @@ public class ReservationService {
         LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
         LocalDateTime end = yearMonth.atEndOfMonth().atTime(23, 59, 59);
 
-        List<SlotResponseDTO> slots = consultationSlotRepository.findByVendorIdAndStartTimeBetween(vendorId, start, end)
-                .stream()
-                .map(SlotResponseDTO::from)
-                .collect(Collectors.toList());
+        List<SlotResponseDTO> slots = slotsBetween(vendorId, start, end);
                 
         log.info("상담 가능 슬롯 조회 완료 - vendorId: {}, {} 개 슬롯 반환", vendorId, slots.size());
         return slots;
     }
 
     // 상담 예약 생성
-    // 동시성 문제 때문에 비관적 락 검
+    // 동시성 문제 때문에 비관적 락 검 (booking.strategy.consultation=CONDITIONAL_UPDATE 이면 조건부 UPDATE 로 선점)
     public Long createReservation(Long memberId, ReservationRequestDTO request) {
         
-        log.info("상담 예약 생성 시작 - memberId: {}, slotId: {}", memberId, request.slotId());
+        log.info("상담 예약 생성 시작 - memberId: {}, slotId: {}, strategy: {}", memberId, request.slotId(), bookingStrategy);
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_USER.getMessage()));
 
-        // 상담 슬롯 조회 및 락, 다른 트랜잭션은 대기 후 CS 진입
-        // DB 단에서 보장
-        ConsultationSlot slot = consultationSlotRepository.findByIdWithPessimisticLock(request.slotId())
-                .orElseThrow(() -> new NotFoundException("상담 시간을 찾을 수 없습니다."));
+        // 템플릿으로 계산된 가상 슬롯이면 이 시점에 row 생성
+        Long slotId = (request.slotId() != null)
+                ? request.slotId()
+                : materializeSlot(request.vendorId(), request.startTime());
 
-        // 슬롯 상태 변경
-        slot.book();
-
-        // 예약 정보 생성 및 저장
-        Reservation reservation = Reservation.builder()
-                .member(member)
-                .vendor(slot.getVendor())
-                .visitDateTime(slot.getStartTime())
-                .consultationSlotId(slot.getId())
-                .build();
-        reservationRepository.save(reservation);
+        Reservation reservation = (bookingStrategy == SlotBookingStrategy.CONDITIONAL_UPDATE)
+                ? reserveWithConditionalUpdate(member, slotId)
+                : reserveWithPessimisticLock(member, slotId);
 
         // 업체가 DRESS 타입이면, 투어 일지 생성 이벤트 발행
         // TourService와 강결합 회피 위함
@@ -127,7 +135,11 @@ public class ReservationService {
 
         // 해당 예약과 연결된 상담 슬롯을 AVAILABLE 상태로 변경
         consultationSlotRepository.findById(reservation.getConsultationSlotId())
-                .ifPresent(ConsultationSlot::makeAvailable);
+                .filter(slot -> slot.getStatus() == SlotStatus.BOOKED)
+                .ifPresent(slot -> {
+                    slot.makeAvailable();
+                    availabilityCounter.slotReleased(slot);
+                });
 
         reservation.cancel();
 
@@ -171,6 +183,22 @@ public class ReservationService {
         log.debug("월별 예약 현황 조회 시작 - vendorId: {}, year: {}, month: {}", vendorId, year, month);
 
         YearMonth yearMonth = YearMonth.of(year, month);
+
+        // 슬롯 템플릿이 있는 업체는 템플릿 달력으로 계산 (저장된 row 는 예약된 슬롯 위주라 적음)
+        if (slotTemplateCalendar.hasTemplates(SlotTemplateTarget.CONSULTATION, vendorId)) {
+            List<DateAvailabilityDTO> result = templateMonthlyAvailability(vendorId, yearMonth);
+            log.info("월별 예약 현황 조회 완료 - vendorId: {}, {} 일 정보 반환", vendorId, result.size());
+            return result;
+        }
+
+        // 일별 카운터(최대 31 row, 이번 달 / 다음 달은 캐시)로 조회
+        if (availabilityCounter.isReady()) {
+            List<DateAvailabilityDTO> result = availabilityCounter.getMonthlyAvailability(vendorId, yearMonth);
+            log.info("월별 예약 현황 조회 완료 - vendorId: {}, {} 일 정보 반환", vendorId, result.size());
+            return result;
+        }
+
+        // 기동 직후 카운터 보정 전에는 슬롯 전체를 읽어 계산
         LocalDateTime startOfMonth = yearMonth.atDay(1).atStartOfDay();
         LocalDateTime endOfMonth = yearMonth.atEndOfMonth().atTime(23, 59, 59);
 
@@ -209,10 +237,7 @@ public class ReservationService {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.atTime(23, 59, 59);
 
-        List<SlotResponseDTO> slots = consultationSlotRepository.findByVendorIdAndStartTimeBetween(vendorId, start, end)
-                .stream()
-                .map(SlotResponseDTO::from)
-                .collect(Collectors.toList());
+        List<SlotResponseDTO> slots = slotsBetween(vendorId, start, end);
                 
         log.info("일별 예약 현황 조회 완료 - vendorId: {}, {} 개 슬롯 반환", vendorId, slots.size());
         return slots;
@@ -223,8 +248,13 @@ public class ReservationService {
         Vendor vendor = vendorRepository.findById(request.vendorId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + " : " + request.vendorId()));
 
+        // 이미 등록된 시작 시간은 건너뜀 ((vendor_id, startTime) 유니크 제약)
+        Set<LocalDateTime> existing = new HashSet<>(consultationSlotRepository
+                .findStartTimesByVendorIdAndStartTimeIn(vendor.getId(), request.startTimes()));
+
         List<ConsultationSlot> slots = request.startTimes().stream()
                 .distinct()
+                .filter(startTime -> !existing.contains(startTime))
                 .map(startTime -> ConsultationSlot.builder()
                         .vendor(vendor)
                         .startTime(startTime)
@@ -232,9 +262,171 @@ public class ReservationService {
                         .build())
                 .toList();
 
-        consultationSlotRepository.saveAll(slots);
+        try {
+            consultationSlotRepository.saveAll(slots);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 시간을 동시에 등록한 경우
+            throw new BadRequestException("이미 등록된 상담 시간이 포함되어 있습니다.");
+        }
+        availabilityCounter.slotsCreated(vendor.getId(), slots);
 
+        if (!existing.isEmpty()) {
+            log.info("이미 등록된 상담 슬롯 {}개는 건너뛰었습니다. - 업체 ID:{}", existing.size(), vendor.getId());
+        }
         log.info("{}개의 상담 슬롯이 업체 '{}'(ID:{})에 성공적으로 등록되었습니다.",
                 slots.size(), vendor.getName(), vendor.getId());
     }
+
+    // 반복 규칙(요일, 운영 시간, 휴무일)으로 상담 슬롯 템플릿 등록 - 슬롯 row 는 예약 시점에 생성
+    public void createSlotTemplate(ConsultationSlotTemplateCreateRequestDTO request) {
+
+        Vendor vendor = vendorRepository.findById(request.vendorId())
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + " : " + request.vendorId()));
+
+        SlotTemplate template = slotTemplateRepository.save(SlotTemplate.builder()
+                .target(SlotTemplateTarget.CONSULTATION)
+                .ownerId(vendor.getId())
+                .daysOfWeek(request.daysOfWeek())
+                .openTime(request.openTime())
+                .closeTime(request.closeTime())
+                .slotMinutes(request.slotMinutes())
+                .validFrom(request.validFrom())
+                .validUntil(request.validUntil())
+                .blackoutDates(request.blackoutDates())
+                .build());
+
+        log.info("상담 슬롯 템플릿(ID:{})이 업체 '{}'(ID:{})에 등록되었습니다.", template.getId(), vendor.getName(), vendor.getId());
+    }
+
+    // 상담 슬롯 조회 및 락, 다른 트랜잭션은 대기 후 CS 진입
+    // DB 단에서 보장
+    private Reservation reserveWithPessimisticLock(Member member, Long slotId) {
+
+        ConsultationSlot slot = consultationSlotRepository.findByIdWithPessimisticLock(slotId)
+                .orElseThrow(() -> new NotFoundException("상담 시간을 찾을 수 없습니다."));
+
+        // 슬롯 상태 변경
+        slot.book();
+        availabilityCounter.slotBooked(slot);
+
+        return reservationRepository.save(newReservation(member, slot));
+    }
+
+    // 락 없이 슬롯을 조회해 예약을 저장한 뒤, 마지막 쓰기로 조건부 UPDATE(+ 일별 카운터 감소)를 실행해 선점
+    // row 락은 UPDATE 부터 커밋까지만 유지되고, 경쟁에서 진 요청은 영향 row 수 0 으로 판별되어 예약 저장까지 롤백
+    private Reservation reserveWithConditionalUpdate(Member member, Long slotId) {
+
+        ConsultationSlot slot = consultationSlotRepository.findWithVendorById(slotId)
+                .orElseThrow(() -> new NotFoundException("상담 시간을 찾을 수 없습니다."));
+
+        // 이미 예약된 슬롯이면 쓰기 없이 바로 실패
+        if (slot.getStatus() != SlotStatus.AVAILABLE) {
+            throw new BadRequestException("이미 예약된 상담 시간입니다.");
+        }
+
+        Reservation reservation = reservationRepository.save(newReservation(member, slot));
+
+        if (consultationSlotRepository.bookIfAvailable(slotId, LocalDateTime.now()) == 0) {
+            log.info("상담 슬롯 선점 실패 - slotId: {}, memberId: {}", slotId, member.getId());
+            throw new BadRequestException("이미 예약된 상담 시간입니다.");
+        }
+        availabilityCounter.slotBooked(slot);
+        return reservation;
+    }
+
+    // 가상 슬롯 예약 - 해당 시간 row 가 있으면 그 row 를, 없으면 템플릿 슬롯인지 확인 후 AVAILABLE row 를 생성
+    // 업체 row 를 잠근 뒤 [시작, 종료) 와 겹치는 row 가 있으면 거절 (시작 시간이 다른 예약/등록 슬롯과의 중복 예약 방지)
+    // 같은 시간을 동시에 생성하는 경우는 업체 잠금으로 순서가 정해지고, (vendor_id, startTime) 유니크 제약이 한 번 더 막음
+    private Long materializeSlot(Long vendorId, LocalDateTime startTime) {
+
+        Optional<ConsultationSlot> stored = consultationSlotRepository.findByVendorIdAndStartTime(vendorId, startTime);
+        if (stored.isPresent()) {
+            return stored.get().getId();
+        }
+
+        CalendarSlot virtualSlot = slotTemplateCalendar.findVirtualSlot(SlotTemplateTarget.CONSULTATION, vendorId, startTime)
+                .orElseThrow(() -> new NotFoundException("상담 시간을 찾을 수 없습니다."));
+        if (!startTime.isAfter(LocalDateTime.now())) {
+            throw new BadRequestException("이미 지난 상담 시간입니다.");
+        }
+
+        vendorRepository.findForUpdateById(vendorId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + " : " + vendorId));
+        List<ConsultationSlot> overlapping = consultationSlotRepository.findOverlappingForShare(
+                vendorId, virtualSlot.startTime(), virtualSlot.endTime());
+        for (ConsultationSlot slot : overlapping) {
+            if (slot.getStartTime().equals(startTime)) {
+                return slot.getId();    // 잠금을 기다리는 동안 다른 요청이 같은 시간을 생성
+            }
+        }
+        if (!overlapping.isEmpty()) {
+            throw new BadRequestException("이미 예약된 상담 시간과 겹칩니다.");
+        }
+
+        ConsultationSlot slot;
+        try {
+            slot = consultationSlotRepository.saveAndFlush(ConsultationSlot.builder()
+                    .vendor(vendorRepository.getReferenceById(vendorId))
+                    .startTime(virtualSlot.startTime())
+                    .endTime(virtualSlot.endTime())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("이미 예약된 상담 시간입니다.");
+        }
+        availabilityCounter.slotsCreated(vendorId, List.of(slot));
+        return slot.getId();
+    }
+
+    // 템플릿이 있으면 저장된 row 와 템플릿 슬롯을 합친 달력, 없으면 저장된 row
+    private List<SlotResponseDTO> slotsBetween(Long vendorId, LocalDateTime start, LocalDateTime end) {
+
+        List<ConsultationSlot> stored = consultationSlotRepository.findByVendorIdAndStartTimeBetween(vendorId, start, end);
+        if (!slotTemplateCalendar.hasTemplates(SlotTemplateTarget.CONSULTATION, vendorId)) {
+            return stored.stream()
+                    .map(SlotResponseDTO::from)
+                    .collect(Collectors.toList());
+        }
+        return slotTemplateCalendar.build(SlotTemplateTarget.CONSULTATION, vendorId,
+                        start.toLocalDate(), end.toLocalDate(), toCalendarSlots(stored))
+                .stream()
+                .map(SlotResponseDTO::from)
+                .collect(Collectors.toList());
+    }
+
+    private List<DateAvailabilityDTO> templateMonthlyAvailability(Long vendorId, YearMonth yearMonth) {
+
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        List<ConsultationSlot> stored = consultationSlotRepository.findByVendorIdAndStartTimeBetween(
+                vendorId, start.atStartOfDay(), end.atTime(23, 59, 59));
+
+        Map<LocalDate, List<CalendarSlot>> slotsByDate = slotTemplateCalendar
+                .build(SlotTemplateTarget.CONSULTATION, vendorId, start, end, toCalendarSlots(stored))
+                .stream()
+                .collect(Collectors.groupingBy(slot -> slot.startTime().toLocalDate()));
+
+        return start.datesUntil(end.plusDays(1))
+                .map(date -> {
+                    List<CalendarSlot> dailySlots = slotsByDate.getOrDefault(date, List.of());
+                    int availableSlots = (int) dailySlots.stream().filter(CalendarSlot::available).count();
+                    return new DateAvailabilityDTO(date, availableSlots > 0, dailySlots.size(), availableSlots);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<CalendarSlot> toCalendarSlots(List<ConsultationSlot> slots) {
+        return slots.stream()
+                .map(slot -> new CalendarSlot(slot.getId(), slot.getStartTime(), slot.getEndTime(),
+                        slot.getStatus() == SlotStatus.AVAILABLE))
+                .toList();
+    }
+
+    private Reservation newReservation(Member member, ConsultationSlot slot) {
+        return Reservation.builder()
+                .member(member)
+                .vendor(slot.getVendor())
+                .visitDateTime(slot.getStartTime())
+                .consultationSlotId(slot.getId())
+                .build();
+    }
 }
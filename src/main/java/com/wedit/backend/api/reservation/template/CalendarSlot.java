@@ -0,0 +1,18 @@
+package com.wedit.backend.api.reservation.template;
+
+import java.time.LocalDateTime;
+
+/**
+ * 달력에 표시되는 슬롯
+ * slotId 가 null 이면 템플릿으로 계산된 가상 슬롯 (예약 시 row 생성)
+ */
+public record CalendarSlot(Long slotId, LocalDateTime startTime, LocalDateTime endTime, boolean available) {
+
+    public static CalendarSlot virtual(LocalDateTime startTime, int slotMinutes) {
+        return new CalendarSlot(null, startTime, startTime.plusMinutes(slotMinutes), true);
+    }
+
+    boolean overlaps(CalendarSlot other) {
+        return startTime.isBefore(other.endTime) && other.startTime.isBefore(endTime);
+    }
+}
@@ -0,0 +1,91 @@
+package com.wedit.backend.api.reservation.template;
+
+import com.wedit.backend.api.reservation.entity.SlotTemplate;
+import com.wedit.backend.api.reservation.entity.SlotTemplateTarget;
+import com.wedit.backend.api.reservation.repository.SlotTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 슬롯 템플릿 기반 달력 계산
+ * 요청 기간의 템플릿 슬롯을 그 자리에서 펼치고, 저장된 슬롯 row(예약되었거나 개별 등록된 슬롯)와 겹치는 가상 슬롯은 제외합니다.
+ * 저장된 row 는 상태 그대로 결과에 포함되므로, 예약된 시간은 예약 불가로, 개별 등록한 시간은 그 row 로 표시됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotTemplateCalendar {
+
+    private final SlotTemplateRepository slotTemplateRepository;
+
+    @Transactional(readOnly = true)
+    public boolean hasTemplates(SlotTemplateTarget target, Long ownerId) {
+        return slotTemplateRepository.existsByTargetAndOwnerId(target, ownerId);
+    }
+
+    /**
+     * [from, to] 기간의 달력 (시작 시간 순)
+     *
+     * @param materialized 같은 기간의 저장된 슬롯 row
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarSlot> build(SlotTemplateTarget target, Long ownerId, LocalDate from, LocalDate to,
+                                    List<CalendarSlot> materialized) {
+        List<CalendarSlot> stored = new ArrayList<>(materialized);
+        stored.sort(Comparator.comparing(CalendarSlot::startTime));
+
+        // 여러 템플릿이 같은 시작 시간을 만들면 하나만 사용
+        TreeMap<LocalDateTime, CalendarSlot> virtualSlots = new TreeMap<>();
+        for (SlotTemplate template : slotTemplateRepository.findByTargetAndOwnerId(target, ownerId)) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                for (LocalDateTime startTime : template.startTimesOn(date)) {
+                    virtualSlots.putIfAbsent(startTime, CalendarSlot.virtual(startTime, template.getSlotMinutes()));
+                }
+            }
+        }
+
+        // 두 목록 모두 시작 시간 순이므로 한 번씩만 순회하며 겹침 판정
+        List<CalendarSlot> result = new ArrayList<>(virtualSlots.size() + stored.size());
+        int next = 0;
+        for (CalendarSlot slot : virtualSlots.values()) {
+            while (next < stored.size() && !stored.get(next).endTime().isAfter(slot.startTime())) {
+                result.add(stored.get(next++));
+            }
+            if (!overlapsStored(slot, stored, next)) {
+                result.add(slot);
+            }
+        }
+        result.addAll(stored.subList(next, stored.size()));
+        result.sort(Comparator.comparing(CalendarSlot::startTime));
+        return result;
+    }
+
+    /**
+     * 해당 시작 시간의 템플릿 슬롯 (가상 슬롯 예약 시 검증, 템플릿이 만드는 시간이 아니면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CalendarSlot> findVirtualSlot(SlotTemplateTarget target, Long ownerId, LocalDateTime startTime) {
+        return slotTemplateRepository.findByTargetAndOwnerId(target, ownerId).stream()
+                .filter(template -> template.generates(startTime))
+                .findFirst()
+                .map(template -> CalendarSlot.virtual(startTime, template.getSlotMinutes()));
+    }
+
+    // stored[from..] 중 slot 이 끝나기 전에 시작하는 row 와 겹치는지
+    private static boolean overlapsStored(CalendarSlot slot, List<CalendarSlot> stored, int from) {
+        for (int i = from; i < stored.size() && stored.get(i).startTime().isBefore(slot.endTime()); i++) {
+            if (stored.get(i).overlaps(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
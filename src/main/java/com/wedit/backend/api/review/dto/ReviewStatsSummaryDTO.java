@@ -1,6 +0,0 @@
-package com.wedit.backend.api.review.dto;
-
-public interface ReviewStatsSummaryDTO {
-    Long getTotalReviewCount();
-    Double getAverageRating();
-}
@@ -0,0 +1,237 @@
+package com.wedit.backend.api.review.feed;
+
+import com.wedit.backend.api.review.dto.ReviewMainBannerResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 메인 배너 최신 후기 피드
+ * - 최근 작성된 후기 capacity 개의 배너 항목(ReviewMainBannerResponseDTO)을 작성 순서대로 담은 링 버퍼
+ * - 작성 시 다음 순번의 칸을 덮어쓰고, 수정/삭제는 해당 칸만 CAS 로 교체 (삭제는 빈 항목으로 표시)
+ * - 전체 후기 수도 함께 유지해 페이지 응답을 DB 조회 없이 만듦 (재구축 시 DB 값으로 다시 맞춤)
+ *
+ * 쓰기/읽기 모두 lock 을 잡지 않습니다. 읽기는 순번이 맞지 않는 칸(아직 채워지지 않았거나 이미 덮어쓴 칸)을 건너뜁니다.
+ * 재구축(rebuild) 중에 들어온 변경은 journal 에 함께 기록해 두었다가 새 버퍼에 다시 적용합니다.
+ * 전체 후기 수는 DB 건수를 읽기 직전(markCounted) 이후 기록된 변경만 반영하며, 버퍼마다 반영한 후기 ID 를 기억해
+ * 같은 작성/삭제가 새 버퍼에 직접 적용되고 journal 에서 다시 적용되어도 한 번만 셉니다.
+ * 기동 후 첫 구축(MainBannerReviewFeedLoader)이 끝나기 전에는 isReady() 가 false 입니다.
+ */
+@Component
+public class MainBannerReviewFeed {
+
+    private final int capacity;
+    private final AtomicReference<Ring> ring;
+    private final Queue<JournalEntry> journal = new ConcurrentLinkedQueue<>();
+    private final AtomicLong journalPosition = new AtomicLong();
+    // 이 journal 위치부터의 변경만 전체 후기 수에 반영 (그 전 변경은 DB 건수에 이미 포함)
+    private volatile long countedPosition = Long.MAX_VALUE;
+
+    private volatile boolean journaling = false;
+    private volatile boolean ready = false;
+
+    public MainBannerReviewFeed(@Value("${review.banner.feed-size:100}") int capacity) {
+        this.capacity = capacity;
+        this.ring = new AtomicReference<>(new Ring(capacity, 0L));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 재구축에 쓸 DB 조회를 시작하기 전에 호출합니다. (이후 들어온 변경은 publishRebuilt 에서 다시 적용됨)
+     */
+    public void beginRebuild() {
+        journal.clear();
+        journalPosition.set(0);
+        countedPosition = Long.MAX_VALUE;
+        journaling = true;
+    }
+
+    /**
+     * 재구축에 쓸 전체 후기 수를 DB 에서 읽기 직전에 호출합니다. (조회 스냅샷 시작 전)
+     */
+    public void markCounted() {
+        countedPosition = journalPosition.get();
+    }
+
+    /**
+     * DB 에서 읽은 최신 후기(최신순)와 전체 후기 수로 새 버퍼를 만들어 교체합니다.
+     */
+    public void publishRebuilt(List<ReviewMainBannerResponseDTO> latestFirst, long totalCount) {
+        Ring rebuilt = new Ring(capacity, totalCount);
+        for (int i = Math.min(latestFirst.size(), capacity) - 1; i >= 0; i--) {
+            rebuilt.insert(latestFirst.get(i));
+            rebuilt.countedCreates.add(latestFirst.get(i).getReviewId());   // DB 건수에 포함됨
+        }
+        ring.set(rebuilt);
+        replayJournal(rebuilt);
+        journaling = false;
+        replayJournal(rebuilt);
+        ready = true;
+    }
+
+    /**
+     * 재구축이 실패하면 journal 기록을 멈춥니다.
+     */
+    public void cancelRebuild() {
+        journaling = false;
+        journal.clear();
+    }
+
+    public void recordCreated(ReviewMainBannerResponseDTO banner) {
+        apply((target, countTotal) -> {
+            target.insert(banner);
+            if (target.countedCreates.add(banner.getReviewId()) && countTotal) {
+                target.total.incrementAndGet();
+            }
+        });
+    }
+
+    public void recordUpdated(ReviewMainBannerResponseDTO banner) {
+        apply((target, countTotal) -> target.replace(banner.getReviewId(), banner));
+    }
+
+    public void recordDeleted(Long reviewId) {
+        apply((target, countTotal) -> {
+            target.replace(reviewId, null);
+            if (target.countedDeletes.add(reviewId) && countTotal) {
+                target.total.updateAndGet(total -> Math.max(0, total - 1));
+            }
+        });
+    }
+
+    /**
+     * 최신순으로 offset 번째부터 최대 limit 개의 배너 항목을 반환합니다.
+     * 버퍼가 요청 범위를 모두 담고 있지 않으면 null 을 반환합니다. (호출 측에서 DB 로 조회)
+     */
+    public Snapshot read(long offset, int limit) {
+        Ring current = ring.get();
+        List<ReviewMainBannerResponseDTO> live = current.liveEntries();
+        long total = current.total.get();
+        // 버퍼에 없는 과거 후기가 요청 범위에 걸리는 경우
+        if (offset + limit > live.size() && total > live.size()) {
+            return null;
+        }
+        int from = (int) Math.min(offset, live.size());
+        int to = (int) Math.min(offset + limit, live.size());
+        return new Snapshot(live.subList(from, to), Math.max(total, live.size()));
+    }
+
+    // journal 기록 후 현재 버퍼에 적용 - 재구축과 겹친 변경은 새 버퍼에도 다시 적용됨
+    // 버퍼 내용은 여러 번 적용해도 결과가 같고, 전체 후기 수는 버퍼별 반영 ID 로 한 번만 셈
+    private void apply(Change change) {
+        if (journaling) {
+            journal.add(new JournalEntry(journalPosition.getAndIncrement(), change));
+        }
+        change.apply(ring.get(), true);
+    }
+
+    private void replayJournal(Ring target) {
+        JournalEntry entry;
+        while ((entry = journal.poll()) != null) {
+            entry.change().apply(target, entry.position() >= countedPosition);
+        }
+    }
+
+    public record Snapshot(List<ReviewMainBannerResponseDTO> content, long totalCount) {
+    }
+
+    @FunctionalInterface
+    private interface Change {
+        // countTotal 이 false 이면 버퍼 내용만 바꾸고 전체 후기 수는 그대로 (DB 건수에 이미 포함된 변경)
+        void apply(Ring target, boolean countTotal);
+    }
+
+    private record JournalEntry(long position, Change change) {
+    }
+
+    private static final class Ring {
+
+        private final int capacity;
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final AtomicLong total;
+        // 전체 후기 수에 반영한 작성/삭제 후기 ID (같은 변경이 두 번 적용되어도 한 번만 셈)
+        private final Set<Long> countedCreates = ConcurrentHashMap.newKeySet();
+        private final Set<Long> countedDeletes = ConcurrentHashMap.newKeySet();
+
+        private Ring(int capacity, long totalCount) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.total = new AtomicLong(totalCount);
+        }
+
+        // 이미 버퍼에 있거나 삭제된 후기는 추가하지 않음
+        private void insert(ReviewMainBannerResponseDTO banner) {
+            if (indexOf(banner.getReviewId()) >= 0 || countedDeletes.contains(banner.getReviewId())) {
+                return;
+            }
+            long sequence = nextSequence.getAndIncrement();
+            slots.set(index(sequence), new Slot(sequence, banner));
+        }
+
+        // banner 가 null 이면 삭제 표시
+        private void replace(Long reviewId, ReviewMainBannerResponseDTO banner) {
+            int index;
+            while ((index = indexOf(reviewId)) >= 0) {
+                Slot current = slots.get(index);
+                if (current == null || current.banner() == null || !reviewId.equals(current.banner().getReviewId())) {
+                    continue;   // 그 사이 다른 후기로 덮어써짐 - 다시 찾음
+                }
+                if (slots.compareAndSet(index, current, new Slot(current.sequence(), banner))) {
+                    return;
+                }
+            }
+        }
+
+        private int indexOf(Long reviewId) {
+            for (int i = 0; i < capacity; i++) {
+                Slot slot = slots.get(i);
+                if (slot != null && slot.banner() != null && reviewId.equals(slot.banner().getReviewId())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // 최신순 살아 있는 항목 (같은 후기가 겹쳐 들어간 경우 최신 칸만)
+        private List<ReviewMainBannerResponseDTO> liveEntries() {
+            long head = nextSequence.get();
+            List<ReviewMainBannerResponseDTO> entries = new ArrayList<>(capacity);
+            Set<Long> seen = new HashSet<>();
+            for (long sequence = head - 1; sequence >= Math.max(0, head - capacity); sequence--) {
+                Slot slot = slots.get(index(sequence));
+                if (slot == null || slot.sequence() != sequence || slot.banner() == null) {
+                    continue;
+                }
+                if (seen.add(slot.banner().getReviewId())) {
+                    entries.add(slot.banner());
+                }
+            }
+            return entries;
+        }
+
+        private int index(long sequence) {
+            return (int) (sequence % capacity);
+        }
+    }
+
+    private record Slot(long sequence, ReviewMainBannerResponseDTO banner) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.wedit.backend.api.review.feed;
+
+import com.wedit.backend.api.review.dto.ReviewMainBannerResponseDTO;
+import com.wedit.backend.api.review.repository.ReviewRepository;
+import com.wedit.backend.api.review.service.ReviewService;
+import com.wedit.backend.common.event.ReviewCreatedEvent;
+import com.wedit.backend.common.event.ReviewDeletedEvent;
+import com.wedit.backend.common.event.ReviewUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 메인 배너 최신 후기 피드 적재기
+ * - 기동 시: 최신 후기 capacity 개를 배너 항목으로 만들어 피드 구축
+ * - 후기 작성/수정/삭제 커밋 후: 이벤트에 담긴 배너 항목으로 해당 칸만 반영 (DB 접근 없음)
+ * - 주기적으로 (review.banner.rebuild-cron): 다른 인스턴스의 변경과 업체명 등 연관 정보 변경을 맞추기 위해 전체 재구축
+ * 기동 시 구축과 주기 재구축이 겹치면 journal 을 서로 지우므로, 재구축은 한 번에 하나씩만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainBannerReviewFeedLoader implements ApplicationRunner {
+
+    private final ReviewService reviewService;
+    private final ReviewRepository reviewRepository;
+    private final MainBannerReviewFeed mainBannerReviewFeed;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${review.banner.rebuild-cron:0 */10 * * * *}")
+    @Transactional(readOnly = true)
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        mainBannerReviewFeed.recordCreated(event.getBanner());
+    }
+
+    @TransactionalEventListener
+    public void handleReviewUpdated(ReviewUpdatedEvent event) {
+        mainBannerReviewFeed.recordUpdated(event.getBanner());
+    }
+
+    @TransactionalEventListener
+    public void handleReviewDeleted(ReviewDeletedEvent event) {
+        mainBannerReviewFeed.recordDeleted(event.getReviewId());
+    }
+
+    private synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        mainBannerReviewFeed.beginRebuild();
+
+        List<ReviewMainBannerResponseDTO> latest;
+        long totalCount;
+        try {
+            // 조회 스냅샷은 첫 조회(count)에서 시작되므로 그 전에 표시 - 이후 커밋된 변경은 journal 에서 반영
+            mainBannerReviewFeed.markCounted();
+            totalCount = reviewRepository.count();
+            latest = reviewService.findLatestMainBanners(mainBannerReviewFeed.capacity());
+        } catch (RuntimeException e) {
+            mainBannerReviewFeed.cancelRebuild();
+            throw e;
+        }
+        mainBannerReviewFeed.publishRebuilt(latest, totalCount);
+
+        log.info("[BannerFeed] 메인 배너 후기 피드 구축 완료 - 후기 {}개 (전체 {}개), 소요시간: {}ms",
+                latest.size(), totalCount, System.currentTimeMillis() - startTime);
+    }
+}
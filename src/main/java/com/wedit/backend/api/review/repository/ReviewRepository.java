@@ -1,7 +1,9 @@
 package com.wedit.backend.api.review.repository;
 
-import com.wedit.backend.api.review.dto.ReviewStatsSummaryDTO;
 import com.wedit.backend.api.review.entity.Review;
+import com.wedit.backend.api.review.stats.VendorRatingCount;
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
+import com.wedit.backend.api.vendor.trending.ReviewPoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     )
     Page<Review> findAllWithMemberAndVendor(Pageable pageable);
 
+    /**
+     * 최근 작성된 리뷰를 Member 및 Vendor 정보와 함께 최신순 조회 (메인 배너 피드 구축용, count 쿼리 없음)
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member JOIN FETCH r.vendor ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findLatestWithMemberAndVendor(Pageable pageable);
+
     /**
      * 특정 리뷰를 조회할 때, 연관된 Member와 Vendor 정보 가져옴 (후기 상세 조회)
      */
@@ -47,13 +57,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             countQuery = "SELECT COUNT(r) FROM Review r WHERE r.vendor.id = :vendorId")
     Page<Review> findByVendorIdWithMember(@Param("vendorId") Long vendorId, Pageable pageable);
 
-    // 특정 업체의 리뷰 통계 (총 후기 개수, 평균 별점)
-    @Query("SELECT COUNT(r) as totalReviewCount, COALESCE(AVG(r.rating), 0.0) as averageRating " +
-            "FROM Review r " +
-            "WHERE r.vendor.id = :vendorId")
-    Optional<ReviewStatsSummaryDTO> findReviewStatsByVendorId(@Param("vendorId") Long vendorId);
-    
-    // 특정 업체의 별점별 후기 개수 조회
-    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.vendor.id = :vendorId GROUP BY r.rating")
-    List<Object[]> findRatingCountsByVendorId(@Param("vendorId") Long vendorId);
+    // 업체별, 별점별 후기 수 (업체 후기 통계 보정용)
+    @Query("SELECT new com.wedit.backend.api.review.stats.VendorRatingCount(r.vendor.id, r.rating, COUNT(r)) " +
+            "FROM Review r WHERE r.vendor.id IN :vendorIds " +
+            "GROUP BY r.vendor.id, r.rating")
+    List<VendorRatingCount> countRatingsByVendorIdIn(@Param("vendorIds") Collection<Long> vendorIds);
+
+    // 인기 업체 랭킹 초기 적재용 - 기간 내 후기의 업체/작성 시각만 조회
+    @Query("SELECT new com.wedit.backend.api.vendor.trending.ReviewPoint(v.id, v.vendorType, r.createdAt) " +
+            "FROM Review r JOIN r.vendor v " +
+            "WHERE r.createdAt >= :startDate")
+    List<ReviewPoint> findReviewPointsSince(@Param("startDate") LocalDateTime startDate);
+
+    /**
+     * VendorType 별 기간 내 후기 수가 많은 순으로 (업체 ID, 후기 수) 를 페이징 조회 (랭킹 준비 전 대체 조회)
+     */
+    @Query(value = "SELECT v.id, COUNT(r) FROM Review r JOIN r.vendor v " +
+            "WHERE v.vendorType = :vendorType AND r.createdAt >= :startDate " +
+            "GROUP BY v.id " +
+            "ORDER BY COUNT(r) DESC, v.id ASC",
+            countQuery = "SELECT COUNT(DISTINCT r.vendor.id) FROM Review r " +
+                    "WHERE r.vendor.vendorType = :vendorType AND r.createdAt >= :startDate")
+    Page<Object[]> findRecentReviewCountsByVendorType(@Param("vendorType") VendorType vendorType,
+                                                      @Param("startDate") LocalDateTime startDate,
+                                                      Pageable pageable);
 }
@@ -9,22 +9,35 @@ import com.wedit.backend.api.member.entity.Member;
 import com.wedit.backend.api.member.repository.MemberRepository;
 import com.wedit.backend.api.review.dto.*;
 import com.wedit.backend.api.review.entity.Review;
+import com.wedit.backend.api.review.feed.MainBannerReviewFeed;
 import com.wedit.backend.api.review.repository.ReviewRepository;
+import com.wedit.backend.api.review.stats.ReviewStatsCache;
+import com.wedit.backend.api.review.stats.ReviewStatsDelta;
+import com.wedit.backend.api.review.stats.VendorReviewStats;
 import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
 import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.common.event.ReviewCreatedEvent;
+import com.wedit.backend.common.event.ReviewDeletedEvent;
+import com.wedit.backend.common.event.ReviewUpdatedEvent;
+import com.wedit.backend.common.event.VendorChangedEvent;
 import com.wedit.backend.common.exception.BadRequestException;
 import com.wedit.backend.common.exception.ForbiddenException;
 import com.wedit.backend.common.exception.NotFoundException;
 import com.wedit.backend.common.exception.UnauthorizedException;
 import com.wedit.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -39,6 +52,9 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final MediaService mediaService;
     private final ContractRepository contractRepository;
+    private final ReviewStatsCache reviewStatsCache;
+    private final MainBannerReviewFeed mainBannerReviewFeed;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -58,6 +74,7 @@ public class ReviewService {
         if (contract.getReview() != null) {
             throw new BadRequestException(ErrorStatus.BAD_REQUEST_ALREADY_WRITE_REVIEW.getMessage());
         }
+        ReviewStatsDelta.validateRating(dto.getRating());
 
         Review review = Review.builder()
                 .contentBest(dto.getContentBest())
@@ -78,16 +95,20 @@ public class ReviewService {
             mediaService.saveAll(mediaToSave);
         }
 
-        updateVendorReviewStats(savedReview.getVendor().getId());
+        Vendor vendor = savedReview.getVendor();
+        applyVendorReviewStats(vendor, ReviewStatsDelta.created(savedReview.getRating()));
 
         List<String> imageUrls = mediaService.findMediaUrls(MediaDomain.REVIEW, savedReview.getId());
 
+        eventPublisher.publishEvent(new ReviewCreatedEvent(this, savedReview.getId(), vendor.getId(),
+                vendor.getVendorType(), savedReview.getCreatedAt(), toMainBanner(savedReview, firstOrNull(imageUrls))));
+
         return createDtoWithCdnUrls(savedReview, imageUrls);
     }
 
 
     /**
-     * 후기 수정 (전체 삭제 후 재생성)
+     * 후기 수정
      */
     public ReviewUpdateResponseDTO updateReview(Long reviewId, ReviewUpdateRequestDTO dto, Long memberId) {
 
@@ -95,26 +116,25 @@ public class ReviewService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW.getMessage()));
 
         validateReviewOwner(review, memberId);
+        ReviewStatsDelta.validateRating(dto.getRating());
 
         // 텍스트 업데이트
+        Integer previousRating = review.getRating();
         review.update(dto.getRating(), dto.getContentBest(), dto.getContentWorst());
         reviewRepository.flush();
 
-        // 기존 미디어 DB와 S3 모두 삭제
-        mediaService.deleteAllByOwner(MediaDomain.REVIEW, reviewId);
+        // 미디어는 S3 key 기준으로 추가/삭제된 것만 반영 (빠진 파일은 커밋 후 비동기 삭제)
+        mediaService.syncMedia(MediaDomain.REVIEW, reviewId, dto.getMediaList());
 
-        if (dto.getMediaList() != null && !dto.getMediaList().isEmpty()) {
-            List<Media> mediaToSave = dto.getMediaList().stream()
-                    .map(mediaDto -> mediaDto.toEntity(MediaDomain.REVIEW, reviewId))
-                    .collect(Collectors.toList());
-            mediaService.saveAll(mediaToSave);
-        }
-
-        // 업체 통계 갱신
-        updateVendorReviewStats(review.getVendor().getId());
+        // 업체 통계 갱신 (별점이 바뀐 경우만)
+        applyVendorReviewStats(review.getVendor(), ReviewStatsDelta.isRating(previousRating)
+                ? ReviewStatsDelta.ratingChanged(previousRating, dto.getRating())
+                : ReviewStatsDelta.created(dto.getRating()));
 
         List<String> imageUrls = mediaService.findMediaUrls(MediaDomain.REVIEW, reviewId);
 
+        eventPublisher.publishEvent(new ReviewUpdatedEvent(this, reviewId, toMainBanner(review, firstOrNull(imageUrls))));
+
         // 수정한 리뷰 응답
         return updateDtoWithCdnUrls(review, imageUrls);
     }
@@ -131,8 +151,12 @@ public class ReviewService {
             throw new ForbiddenException(ErrorStatus.UNAUTHORIZED_WRITER_NOT_SAME_USER.getMessage());
         }
 
-        Long vendorId = review.getVendor().getId();
-        
+        Vendor vendor = review.getVendor();
+        Long vendorId = vendor.getId();
+        VendorType vendorType = vendor.getVendorType();
+        Integer rating = review.getRating();
+        LocalDateTime reviewCreatedAt = review.getCreatedAt();
+
         // 연관 미디어 삭제
         mediaService.deleteAllByOwner(MediaDomain.REVIEW, reviewId);
 
@@ -141,7 +165,11 @@ public class ReviewService {
         reviewRepository.flush();
 
         // 업체 통계 갱신
-        updateVendorReviewStats(vendorId);
+        if (ReviewStatsDelta.isRating(rating)) {
+            applyVendorReviewStats(vendor, ReviewStatsDelta.deleted(rating));
+        }
+
+        eventPublisher.publishEvent(new ReviewDeletedEvent(this, reviewId, vendorId, vendorType, reviewCreatedAt));
     }
 
     // 후기 상세 조회
@@ -180,30 +208,36 @@ public class ReviewService {
     }
 
     // 메인 배너 후기 페이징 조회
-    @Transactional(readOnly = true)
+    // 최신 후기 피드(MainBannerReviewFeed) 범위 안이면 DB 접근 없이 응답하고, 더 오래된 페이지만 DB 에서 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ReviewMainBannerResponseDTO> getMainBannerReviewList(Pageable pageable) {
 
+        if (mainBannerReviewFeed.isReady()) {
+            MainBannerReviewFeed.Snapshot snapshot = mainBannerReviewFeed.read(pageable.getOffset(), pageable.getPageSize());
+            if (snapshot != null) {
+                return new PageImpl<>(snapshot.content(), pageable, snapshot.totalCount());
+            }
+        }
+
         // 리뷰 페이징 조회
         Page<Review> page = reviewRepository.findAllWithMemberAndVendor(pageable);
         if (page.isEmpty()) {
             return Page.empty();
         }
 
-        List<Long> reviewIds = page.getContent().stream().map(Review::getId).toList();
-        Map<Long, String> firstImageUrlMap = new HashMap<>();
+        Map<Long, String> firstImageUrlMap = findFirstImageUrls(page.getContent());
+        return page.map(review -> toMainBanner(review, firstImageUrlMap.get(review.getId())));
+    }
 
-        mediaService.findAllByOwnerDomainAndOwnerIds(MediaDomain.REVIEW, reviewIds).stream()
-                .sorted(Comparator.comparingInt(Media::getSortOrder))
-                .collect(Collectors.groupingBy(Media::getOwnerId))
-                .forEach((reviewId, mediaList) -> {
-                    if (!mediaList.isEmpty()) {
-                        firstImageUrlMap.put(reviewId, mediaService.toCdnUrl(mediaList.get(0).getMediaKey()));
-                    }
-                });
+    // 메인 배너 피드 구축용 최신 후기 배너 항목 (최신순)
+    @Transactional(readOnly = true)
+    public List<ReviewMainBannerResponseDTO> findLatestMainBanners(int limit) {
 
-        return page.map(review -> ReviewMainBannerResponseDTO.from(review, firstImageUrlMap.get(review.getId()),
-                (review.getContentBest() != null && !review.getContentBest().isEmpty()) ? review.getContentBest() : review.getContentWorst(),
-                maskWriterName(review.getMember().getName())));
+        List<Review> reviews = reviewRepository.findLatestWithMemberAndVendor(PageRequest.of(0, limit));
+        Map<Long, String> firstImageUrlMap = findFirstImageUrls(reviews);
+        return reviews.stream()
+                .map(review -> toMainBanner(review, firstImageUrlMap.get(review.getId())))
+                .toList();
     }
 
     // 작성한 내 후기 페이징 조회
@@ -221,47 +255,13 @@ public class ReviewService {
     }
 
     // 특정 업체 리뷰 통계 조회
+    // 캐시 적중 시 DB 접근이 없도록 트랜잭션을 시작하지 않음 (미스일 때만 업체 PK 조회 한 번)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReviewStatsResponseDTO getReviewStats(Long vendorId) {
 
-        if (!vendorRepository.existsById(vendorId)) {
-            throw new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + " : " + vendorId);
-        }
-
-        // 특정 업체의 리뷰 통계 (총 후기 개수, 평균 별점)
-        ReviewStatsSummaryDTO stats = reviewRepository.findReviewStatsByVendorId(vendorId)
-                .orElseGet(() -> new ReviewStatsSummaryDTO() {
-                    @Override
-                    public Long getTotalReviewCount() {
-                        return 0L;
-                    }
-
-                    @Override
-                    public Double getAverageRating() {
-                        return 0.0;
-                    }
-                });
-
-        long totalCount = Optional.ofNullable(stats.getTotalReviewCount()).orElse(0L);
-        double averageRating = Optional.ofNullable(stats.getAverageRating()).orElse(0.0);
-
-        if (totalCount == 0L) {
-            averageRating = 0.0;
-        }
-
-        // 특정 업체의 별점 별 후기 개수
-        Map<Integer, Long> ratingCountResult = reviewRepository.findRatingCountsByVendorId(vendorId)
-                .stream()
-                .collect(Collectors.toMap(
-                        row -> (row.length > 0 && row[0] != null) ? ((Number) row[0]).intValue() : 0,
-                        row -> (row.length > 1 && row[1] != null) ? ((Number) row[1]).longValue() : 0L
-                ));
-
-        // DTO 조립 후 반환
-        return ReviewStatsResponseDTO.builder()
-                .totalReviewCount(totalCount)
-                .averageRating(averageRating)
-                .ratingCounts(ratingCountResult)
-                .build();
+        return reviewStatsCache.get(vendorId, () -> vendorRepository.findReviewStatsById(vendorId)
+                .map(VendorReviewStats::toResponse)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + " : " + vendorId)));
     }
 
      // 특정 업체의 후기 목록 페이징 조회
@@ -303,34 +303,17 @@ public class ReviewService {
 
      ///  --- 헬퍼 메서드 ---
 
-     private void updateVendorReviewStats(Long vendorId) {
-
-         ReviewStatsSummaryDTO stats = reviewRepository.findReviewStatsByVendorId(vendorId)
-                 .orElseGet(() -> new ReviewStatsSummaryDTO() {
-                     @Override
-                     public Long getTotalReviewCount() {
-                         return 0L;
-                     }
+     // 업체 후기 통계 증감 반영 - 업체 row 에 대한 원자적 UPDATE 한 번 (전체 후기 재집계 없음, 동시 작성 시에도 증감 유실 없음)
+     private void applyVendorReviewStats(Vendor vendor, ReviewStatsDelta delta) {
 
-                     @Override
-                     public Double getAverageRating() {
-                         return 0.0;
-                     }
-                 });
-
-         long reviewCount = Optional.ofNullable(stats.getTotalReviewCount()).orElse(0L);
-         double averageRating = Optional.ofNullable(stats.getAverageRating()).orElse(0.0);
-
-         if (reviewCount == 0L) {
-             averageRating = 0.0;
+         if (delta.isEmpty()) {
+             return;
+         }
+         if (vendorRepository.applyReviewStatsDelta(vendor.getId(), delta) == 0) {
+             throw new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + "통계 업데이트 중 업체를 찾을 수 없습니다: " + vendor.getId());
          }
 
-         Vendor vendor = vendorRepository.findById(vendorId)
-                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_VENDOR.getMessage() + "통계 업데이트 중 업체를 찾을 수 없습니다: " + vendorId));
-
-         vendor.updateReviewStats((int) reviewCount, averageRating);
-
-         vendorRepository.save(vendor);
+         eventPublisher.publishEvent(new VendorChangedEvent(this, vendor.getId(), vendor.getVendorType(), false));
      }
 
     private void validateReviewOwner(Review review, Long memberId) {
@@ -367,6 +350,37 @@ public class ReviewService {
                 .build();
     }
 
+    // 후기별 첫 번째(정렬 순서 기준) 이미지 CDN URL
+    private Map<Long, String> findFirstImageUrls(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
+        Map<Long, String> firstImageUrlMap = new HashMap<>();
+
+        mediaService.findAllByOwnerDomainAndOwnerIds(MediaDomain.REVIEW, reviewIds).stream()
+                .sorted(Comparator.comparingInt(Media::getSortOrder))
+                .collect(Collectors.groupingBy(Media::getOwnerId))
+                .forEach((reviewId, mediaList) -> {
+                    if (!mediaList.isEmpty()) {
+                        firstImageUrlMap.put(reviewId, mediaService.toCdnUrl(mediaList.get(0).getMediaKey()));
+                    }
+                });
+        return firstImageUrlMap;
+    }
+
+    // 메인 배너 항목 생성 ('좋았던 점' 우선 노출, 작성자 이름 마스킹)
+    private ReviewMainBannerResponseDTO toMainBanner(Review review, String mainImageUrl) {
+        return ReviewMainBannerResponseDTO.from(review, mainImageUrl,
+                (review.getContentBest() != null && !review.getContentBest().isEmpty()) ? review.getContentBest() : review.getContentWorst(),
+                maskWriterName(review.getMember().getName()));
+    }
+
+    private String firstOrNull(List<String> urls) {
+        return urls.isEmpty() ? null : urls.get(0);
+    }
+
     // 작성자 이름 마스킹 처리 헬퍼 메서드
     // ex. 홍길동 -> 홍길*
     private String maskWriterName(String name) {
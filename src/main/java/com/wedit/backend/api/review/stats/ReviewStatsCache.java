@@ -0,0 +1,97 @@
+package com.wedit.backend.api.review.stats;
+
+import com.wedit.backend.api.review.dto.ReviewStatsResponseDTO;
+import com.wedit.backend.common.event.VendorChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 업체 후기 통계 응답 캐시 (read-through)
+ * - 업체별 버전 번호를 두고, 후기 통계 증감/보정 커밋(VendorChangedEvent) 시 버전을 올려 만료
+ * - 최대 maxEntries 개를 LRU 로 유지하며, 적중 시 DB 접근 없이 응답
+ * 응답은 조회 전에 읽은 버전으로 저장되므로, 조회 도중 통계가 바뀌면 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReviewStatsCache {
+
+    private static final String METRIC_PREFIX = "review.stats.cache";
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, CachedStats> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ReviewStatsCache(MeterRegistry meterRegistry,
+                            @Value("${review.stats.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedStats> eldest) {
+                return size() > ReviewStatsCache.this.maxEntries;
+            }
+        };
+        this.hitCounter = result(meterRegistry, "hit");
+        this.missCounter = result(meterRegistry, "miss");
+    }
+
+    public ReviewStatsResponseDTO get(Long vendorId, Supplier<ReviewStatsResponseDTO> loader) {
+        long version = currentVersion(vendorId);
+        synchronized (entries) {
+            CachedStats cached = entries.get(vendorId);
+            if (cached != null && cached.version() == version) {
+                hitCounter.increment();
+                return cached.stats();
+            }
+        }
+
+        missCounter.increment();
+        ReviewStatsResponseDTO stats = loader.get();
+        if (version == currentVersion(vendorId)) {
+            synchronized (entries) {
+                entries.put(vendorId, new CachedStats(version, stats));
+            }
+        }
+        return stats;
+    }
+
+    // 통계 변경 커밋 후 버전을 올려 기존 응답을 만료
+    @TransactionalEventListener
+    public void handleVendorChanged(VendorChangedEvent event) {
+        if (event.getVendorId() == null) {
+            return;
+        }
+        versions.computeIfAbsent(event.getVendorId(), id -> new AtomicLong()).incrementAndGet();
+        synchronized (entries) {
+            entries.remove(event.getVendorId());
+        }
+        log.debug("[ReviewStatsCache] 업체 후기 통계 캐시 만료 - vendorId: {}", event.getVendorId());
+    }
+
+    private long currentVersion(Long vendorId) {
+        AtomicLong version = versions.get(vendorId);
+        return (version != null) ? version.get() : 0L;
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".requests")
+                .description("업체 후기 통계 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedStats(long version, ReviewStatsResponseDTO stats) {
+    }
+}
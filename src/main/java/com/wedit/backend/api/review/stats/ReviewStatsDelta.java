@@ -0,0 +1,64 @@
+package com.wedit.backend.api.review.stats;
+
+import com.wedit.backend.common.exception.BadRequestException;
+
+/**
+ * 후기 한 건의 작성/수정/삭제가 업체 후기 통계에 주는 변화량
+ * ratingDeltas 는 별점 1 ~ 5 별 후기 수 변화량 (index 0 이 1점)
+ */
+public record ReviewStatsDelta(int countDelta, long sumDelta, int[] ratingDeltas) {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    public static ReviewStatsDelta created(int rating) {
+        return new ReviewStatsDelta(1, rating, ratingDeltas(rating, 1));
+    }
+
+    public static ReviewStatsDelta deleted(int rating) {
+        return new ReviewStatsDelta(-1, -rating, ratingDeltas(rating, -1));
+    }
+
+    public static ReviewStatsDelta ratingChanged(int oldRating, int newRating) {
+        int[] deltas = ratingDeltas(oldRating, -1);
+        deltas[index(newRating)] += 1;
+        return new ReviewStatsDelta(0, (long) newRating - oldRating, deltas);
+    }
+
+    public boolean isEmpty() {
+        if (countDelta != 0 || sumDelta != 0) {
+            return false;
+        }
+        for (int delta : ratingDeltas) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int ratingDelta(int rating) {
+        return ratingDeltas[index(rating)];
+    }
+
+    public static boolean isRating(Integer rating) {
+        return rating != null && rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    public static void validateRating(Integer rating) {
+        if (!isRating(rating)) {
+            throw new BadRequestException("별점은 " + MIN_RATING + " ~ " + MAX_RATING + " 사이의 정수여야 합니다.");
+        }
+    }
+
+    private static int[] ratingDeltas(int rating, int delta) {
+        int[] deltas = new int[MAX_RATING];
+        deltas[index(rating)] = delta;
+        return deltas;
+    }
+
+    private static int index(int rating) {
+        validateRating(rating);
+        return rating - MIN_RATING;
+    }
+}
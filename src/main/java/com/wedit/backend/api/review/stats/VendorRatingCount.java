@@ -0,0 +1,7 @@
+package com.wedit.backend.api.review.stats;
+
+/**
+ * review 테이블 기준 업체별, 별점별 후기 수 (후기 통계 보정용 집계 row)
+ */
+public record VendorRatingCount(Long vendorId, Integer rating, Long reviewCount) {
+}
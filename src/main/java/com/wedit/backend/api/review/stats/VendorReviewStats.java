@@ -0,0 +1,45 @@
+package com.wedit.backend.api.review.stats;
+
+import com.wedit.backend.api.review.dto.ReviewStatsResponseDTO;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * vendors 테이블의 후기 통계 컬럼 (업체 PK 조회 한 번으로 읽는 projection)
+ * 통계 컬럼 도입 전 row 의 null 은 0 으로 처리합니다.
+ */
+public record VendorReviewStats(
+        Integer reviewCount,
+        Double averageRating,
+        Integer rating1Count,
+        Integer rating2Count,
+        Integer rating3Count,
+        Integer rating4Count,
+        Integer rating5Count
+) {
+
+    public ReviewStatsResponseDTO toResponse() {
+        long totalCount = valueOf(reviewCount);
+
+        // 후기가 있는 별점만 별점 순으로 포함
+        Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+        int[] counts = {valueOf(rating1Count), valueOf(rating2Count), valueOf(rating3Count),
+                valueOf(rating4Count), valueOf(rating5Count)};
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                ratingCounts.put(ReviewStatsDelta.MIN_RATING + i, (long) counts[i]);
+            }
+        }
+
+        return ReviewStatsResponseDTO.builder()
+                .totalReviewCount(totalCount)
+                .averageRating((totalCount > 0 && averageRating != null) ? averageRating : 0.0)
+                .ratingCounts(ratingCounts)
+                .build();
+    }
+
+    private static int valueOf(Integer count) {
+        return (count != null) ? count : 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.wedit.backend.api.review.stats;
+
+import com.wedit.backend.api.review.repository.ReviewRepository;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.repository.VendorRepository;
+import com.wedit.backend.common.event.VendorChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업체 후기 통계 보정
+ * - 기동 시 1회: 통계 누적 컬럼 도입 이전 업체의 값을 채움
+ * - 매일 새벽 (review.stats.reconcile-cron): review 테이블로 다시 집계해 증감 UPDATE 결과와 다른 업체를 수정하고 차이를 기록
+ * 업체를 BATCH_SIZE 개씩 나누어 배치마다 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VendorReviewStatsReconciler implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final VendorRepository vendorRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcileAll();
+    }
+
+    @Scheduled(cron = "${review.stats.reconcile-cron:0 0 5 * * *}")
+    public void reconcileAll() {
+        long startTime = System.currentTimeMillis();
+        int repaired = 0;
+        long afterId = 0L;
+        List<Long> vendorIds;
+        do {
+            vendorIds = vendorRepository.findIdsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (vendorIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = vendorIds;
+            Integer batchRepaired = transactionTemplate.execute(status -> reconcile(batch));
+            repaired += (batchRepaired != null) ? batchRepaired : 0;
+            afterId = vendorIds.get(vendorIds.size() - 1);
+        } while (vendorIds.size() == BATCH_SIZE);
+
+        if (repaired > 0) {
+            log.warn("[ReviewStats] 업체 후기 통계 보정 완료 - 수정 {}개 업체, 소요시간: {}ms",
+                    repaired, System.currentTimeMillis() - startTime);
+        } else {
+            log.info("[ReviewStats] 업체 후기 통계 보정 완료 - 차이 없음, 소요시간: {}ms",
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
+    // 업체 row 를 먼저 잠근 뒤 후기를 집계하므로, 진행 중인 후기 작성/삭제의 증감은 보정 결과 위에 적용됨
+    private int reconcile(List<Long> vendorIds) {
+        List<Vendor> vendors = vendorRepository.findForUpdateByIdIn(vendorIds);
+
+        Map<Long, int[]> ratingCounts = new HashMap<>();
+        for (VendorRatingCount row : reviewRepository.countRatingsByVendorIdIn(vendorIds)) {
+            if (!ReviewStatsDelta.isRating(row.rating())) {
+                continue;   // 별점 범위 밖의 후기는 통계에서 제외
+            }
+            ratingCounts.computeIfAbsent(row.vendorId(), id -> new int[ReviewStatsDelta.MAX_RATING])
+                    [row.rating() - ReviewStatsDelta.MIN_RATING] = row.reviewCount().intValue();
+        }
+
+        int repaired = 0;
+        for (Vendor vendor : vendors) {
+            Integer previousCount = vendor.getReviewCount();
+            Long previousSum = vendor.getRatingSum();
+            if (!vendor.reconcileReviewStats(ratingCounts.getOrDefault(vendor.getId(), new int[ReviewStatsDelta.MAX_RATING]))) {
+                continue;
+            }
+            log.warn("[ReviewStats] 업체 후기 통계 불일치 - vendorId: {}, 후기 수 {} -> {}, 별점 합 {} -> {}",
+                    vendor.getId(), previousCount, vendor.getReviewCount(), previousSum, vendor.getRatingSum());
+            eventPublisher.publishEvent(new VendorChangedEvent(this, vendor.getId(), vendor.getVendorType(), false));
+            repaired++;
+        }
+        return repaired;
+    }
+}
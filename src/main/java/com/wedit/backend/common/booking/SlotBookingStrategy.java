@@ -0,0 +1,14 @@
+package com.wedit.backend.common.booking;
+
+/**
+ * 예약/계약 슬롯 선점 방식
+ * 슬롯 종류별로 설정합니다. (booking.strategy.consultation, booking.strategy.contract)
+ */
+public enum SlotBookingStrategy {
+
+    // SELECT ... FOR UPDATE 로 슬롯 row 를 잠근 뒤 상태 변경 (커밋까지 락 유지)
+    PESSIMISTIC_LOCK,
+
+    // 락 없이 조회 후 UPDATE ... WHERE status = 'AVAILABLE' 의 영향 row 수로 선점 여부 판별
+    CONDITIONAL_UPDATE
+}
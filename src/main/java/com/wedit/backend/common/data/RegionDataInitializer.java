@@ -1,11 +1,14 @@
 package com.wedit.backend.common.data;
 
 import com.wedit.backend.api.vendor.entity.Region;
+import com.wedit.backend.api.vendor.region.RegionTree;
 import com.wedit.backend.api.vendor.repository.RegionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
@@ -17,12 +20,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+// 지역 트리를 사용하는 다른 초기화 작업보다 먼저 실행
 @Slf4j
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RequiredArgsConstructor
 public class RegionDataInitializer implements ApplicationRunner {
 
     private final RegionRepository regionRepository;
+    private final RegionTree regionTree;
 
 
     @Override
@@ -31,6 +37,7 @@ public class RegionDataInitializer implements ApplicationRunner {
         // DB에 이미 데이터가 있는지 확인하여, 중복 실행 방지
         if (regionRepository.count() > 0) {
             log.info("Region data already exists. Skipping initialization.");
+            regionTree.load(regionRepository.findAll());
             return;
         }
 
@@ -109,5 +116,8 @@ public class RegionDataInitializer implements ApplicationRunner {
         regionRepository.saveAll(regionsToSave);
         log.info("Successfully initialized {} regions.", regionsToSave.size());
         reader.close();
+
+        // 지역 검색용 인메모리 트리 구축
+        regionTree.load(regionsToSave);
     }
 }
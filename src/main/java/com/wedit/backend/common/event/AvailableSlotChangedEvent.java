@@ -0,0 +1,19 @@
+package com.wedit.backend.common.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 상품의 계약 슬롯 예약 가능 여부가 바뀌었음을 알리는 이벤트 (슬롯/템플릿 등록, 계약, 선점, 선점 해제/만료)
+ * 커밋 이후 상품별 계약 가능 날짜 비트맵(ProductAvailabilityIndex)이 해당 상품을 다시 계산하는 데 사용
+ */
+@Getter
+public class AvailableSlotChangedEvent extends ApplicationEvent {
+
+    private final Long productId;
+
+    public AvailableSlotChangedEvent(Object source, Long productId) {
+        super(source);
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.wedit.backend.common.event;
+
+import com.wedit.backend.api.review.dto.ReviewMainBannerResponseDTO;
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 후기가 작성되었음을 알리는 이벤트
+ * 인기 업체 랭킹(TrendingVendorRanking)이 커밋 이후 후기 작성일 기준 일별 카운터를 갱신하는 데 사용
+ * 메인 배너 후기 피드(MainBannerReviewFeed)는 함께 전달된 배너 항목을 맨 앞에 추가
+ */
+@Getter
+public class ReviewCreatedEvent extends ApplicationEvent {
+
+    private final Long reviewId;
+    private final Long vendorId;
+    private final VendorType vendorType;
+    private final LocalDateTime reviewCreatedAt;    // 후기 작성 시각 (집계 일자 기준)
+    private final ReviewMainBannerResponseDTO banner;   // 커밋 시점에 만든 메인 배너 항목
+
+    public ReviewCreatedEvent(Object source, Long reviewId, Long vendorId, VendorType vendorType,
+                              LocalDateTime reviewCreatedAt, ReviewMainBannerResponseDTO banner) {
+        super(source);
+        this.reviewId = reviewId;
+        this.vendorId = vendorId;
+        this.vendorType = vendorType;
+        this.reviewCreatedAt = reviewCreatedAt;
+        this.banner = banner;
+    }
+}
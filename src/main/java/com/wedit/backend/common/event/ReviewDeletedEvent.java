@@ -0,0 +1,30 @@
+package com.wedit.backend.common.event;
+
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 후기가 삭제되었음을 알리는 이벤트
+ * 인기 업체 랭킹(TrendingVendorRanking)이 커밋 이후 후기 작성일 기준 일별 카운터를 갱신하는 데 사용
+ * 메인 배너 후기 피드(MainBannerReviewFeed)에서도 해당 후기를 제거
+ */
+@Getter
+public class ReviewDeletedEvent extends ApplicationEvent {
+
+    private final Long reviewId;
+    private final Long vendorId;
+    private final VendorType vendorType;
+    private final LocalDateTime reviewCreatedAt;    // 후기 작성 시각 (집계 일자 기준)
+
+    public ReviewDeletedEvent(Object source, Long reviewId, Long vendorId, VendorType vendorType,
+                              LocalDateTime reviewCreatedAt) {
+        super(source);
+        this.reviewId = reviewId;
+        this.vendorId = vendorId;
+        this.vendorType = vendorType;
+        this.reviewCreatedAt = reviewCreatedAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.wedit.backend.common.event;
+
+import com.wedit.backend.api.review.dto.ReviewMainBannerResponseDTO;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 후기가 수정되었음을 알리는 이벤트
+ * 메인 배너 후기 피드(MainBannerReviewFeed)가 커밋 이후 해당 후기의 배너 항목을 교체하는 데 사용
+ */
+@Getter
+public class ReviewUpdatedEvent extends ApplicationEvent {
+
+    private final Long reviewId;
+    private final ReviewMainBannerResponseDTO banner;   // 커밋 시점에 만든 메인 배너 항목
+
+    public ReviewUpdatedEvent(Object source, Long reviewId, ReviewMainBannerResponseDTO banner) {
+        super(source);
+        this.reviewId = reviewId;
+        this.banner = banner;
+    }
+}
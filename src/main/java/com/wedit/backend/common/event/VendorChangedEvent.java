@@ -0,0 +1,28 @@
+package com.wedit.backend.common.event;
+
+import com.wedit.backend.api.vendor.entity.enums.VendorType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 업체 또는 업체 소속 상품이 변경되었음을 알리는 이벤트
+ * 검색 인덱스 등 업체 기반 인메모리 구조가 커밋 이후 해당 업체를 다시 읽어오도록 하는 데 사용
+ */
+@Getter
+public class VendorChangedEvent extends ApplicationEvent {
+
+    private final Long vendorId;
+    private final VendorType vendorType;    // 변경된 업체의 타입 (null 이면 타입을 특정할 수 없음)
+    private final boolean productsChanged;  // false 이면 업체 컬럼(평점, 후기 수 등)만 변경됨
+
+    public VendorChangedEvent(Object source, Long vendorId, VendorType vendorType) {
+        this(source, vendorId, vendorType, true);
+    }
+
+    public VendorChangedEvent(Object source, Long vendorId, VendorType vendorType, boolean productsChanged) {
+        super(source);
+        this.vendorId = vendorId;
+        this.vendorType = vendorType;
+        this.productsChanged = productsChanged;
+    }
+}
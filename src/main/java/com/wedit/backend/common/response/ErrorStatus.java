@@ -37,11 +37,16 @@ public enum ErrorStatus {
     BAD_REQUEST_CONNECT_GROOM_TO_BRIDE(HttpStatus.BAD_REQUEST, "잘못된 연결 요청입니다. 신랑을 등록할 수 없는 상태입니다."),
     BAD_REQUEST_REQUIRED_LEAST_REGION_CODE(HttpStatus.BAD_REQUEST, "업체 지역은 읍/면/동 단위(level=3)여야 합니다."),
     BAD_REQUEST_ALREADY_BOOKED(HttpStatus.BAD_REQUEST, "이미 예약된 슬롯입니다. 다른 시간을 선택해주세요."),
+    BAD_REQUEST_SLOT_HOLD_EXPIRED(HttpStatus.BAD_REQUEST, "슬롯 선점 시간이 만료되었습니다. 다시 선택해주세요."),
 	BAD_REQUEST_ESTIMATE_CONFLICT(HttpStatus.BAD_REQUEST, "견적서 시간이 겹칩니다."),
 	BAD_REQUEST_ALREADY_HAVE_INVITATION(HttpStatus.BAD_REQUEST, "이미 청첩장을 가지고 있습니다."),
 	BAD_REQUEST_ALREADY_OTHER_MEMBER_HAVE_INVITATION(HttpStatus.BAD_REQUEST, "이미 다른 멤버가 청첩장을 가지고 있습니다."),
     BAD_REQUEST_ALREADY_EXIST_CART_ITEM(HttpStatus.BAD_REQUEST, "이미 같은 시간의 상품이 담겨 있습니다."),
     BAD_REQUEST_ALREADY_WRITE_REVIEW(HttpStatus.BAD_REQUEST, "이미 후기를 작성한 계약입니다."),
+    BAD_REQUEST_INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 검색 커서입니다."),
+    BAD_REQUEST_INVALID_GEO_CONDITION(HttpStatus.BAD_REQUEST, "올바르지 않은 위치 검색 조건입니다."),
+    BAD_REQUEST_INVALID_AVAILABILITY_CONDITION(HttpStatus.BAD_REQUEST, "올바르지 않은 계약 가능 날짜 검색 조건입니다."),
+    BAD_REQUEST_INVALID_COMPARISON_ITEMS(HttpStatus.BAD_REQUEST, "비교할 업체 또는 상품 개수가 올바르지 않습니다."),
 
 	/// 401 UNAUTHORIZED
 	UNAUTHORIZED_USER(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
@@ -92,6 +97,7 @@ public enum ErrorStatus {
 
 	/// 503 SERVICE UNAVAILABLE
 	SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "서버에 연결할 수 없습니다."),
+	SERVICE_UNAVAILABLE_SEARCH_INDEX_LOADING(HttpStatus.SERVICE_UNAVAILABLE, "검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
 	;
 
@@ -64,6 +64,10 @@ public enum SuccessStatus {
     CONTRACT_DETAIL_GET_SUCCESS(HttpStatus.OK, "계약 상세 조회 성공"),
     REVIEWABLE_CONTRACT_GET_SUCCESS(HttpStatus.OK, "후기 작성 가능 계약 목록 조회 성공"),
     CONDITION_SEARCH_SUCCESS(HttpStatus.OK, "조건 검색 성공"),
+    SEARCH_FACET_SUCCESS(HttpStatus.OK, "검색 필터 집계 조회 성공"),
+    AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "검색어 자동완성 조회 성공"),
+    COMPARISON_GET_SUCCESS(HttpStatus.OK, "업체/상품 비교 조회 성공"),
+    VENDOR_IMPORT_SUCCESS(HttpStatus.OK, "업체/상품 일괄 등록 완료"),
     CALENDAR_EVENTS_GET_SUCCESS(HttpStatus.OK, "캘린더 월별 일정 조회 성공"),
     CALENDAR_UPDATE_SUCCESS(HttpStatus.OK, "캘린더 일정 수정 성공"),
     VENDOR_ADDRESS_GET_SUCCESS(HttpStatus.OK, "업체 주소 조회 성공"),
@@ -89,6 +93,9 @@ public enum SuccessStatus {
     CONTRACT_CREATE_SUCCESS(HttpStatus.CREATED, "계약 생성 성공"),
     CONSULTATION_TIME_SLOT_CREATE_SUCCESS(HttpStatus.CREATED, "상담 가능 시간 슬롯 생성 성공"),
     AVAILABLE_TIME_SLOT_CREATE_SUCCESS(HttpStatus.CREATED, "계약 가능 시간 슬롯 생성 성공"),
+    CONSULTATION_SLOT_TEMPLATE_CREATE_SUCCESS(HttpStatus.CREATED, "상담 슬롯 템플릿 생성 성공"),
+    AVAILABLE_SLOT_TEMPLATE_CREATE_SUCCESS(HttpStatus.CREATED, "계약 슬롯 템플릿 생성 성공"),
+    CONTRACT_SLOT_HOLD_SUCCESS(HttpStatus.CREATED, "계약 슬롯 선점 성공"),
     CALENDAR_CREATE_SUCCESS(HttpStatus.CREATED, "캘린더 사용자 일정 생성 성공"),
     CALENDAR_ADMIN_EVENT_CREATE_SUCCESS(HttpStatus.CREATED, "캘린더 관리자 일정 생성 성공"),
 
@@ -104,6 +111,7 @@ public enum SuccessStatus {
     CART_ITEM_DELETE_SUCCESS(HttpStatus.NO_CONTENT, "견적서의 찜한 상품 삭제 성공"),
     CONSULTATION_RESERVATION_CANCEL_SUCCESS(HttpStatus.NO_CONTENT, "상담 예약 취소 성공"),
     CALENDAR_DELETE_SUCCESS(HttpStatus.NO_CONTENT, "캘린더 일정 삭제 성공"),
+    CONTRACT_SLOT_HOLD_RELEASE_SUCCESS(HttpStatus.NO_CONTENT, "계약 슬롯 선점 해제 성공"),
 
 
     ;
@@ -0,0 +1,80 @@
+package com.wedit.backend.api.contract.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    void unalignedDeadlineFiresOnFollowingTickNotEarlier() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 3, 0);
+        wheel.schedule("hold", 1500);
+
+        assertThat(wheel.advanceTo(1499)).isEmpty();
+        assertThat(wheel.advanceTo(1999)).isEmpty();
+        assertThat(wheel.advanceTo(2000)).containsExactly("hold");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void alignedDeadlineFiresOnItsOwnTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 3, 0);
+        wheel.schedule("hold", 3000);
+
+        assertThat(wheel.advanceTo(2999)).isEmpty();
+        assertThat(wheel.advanceTo(3000)).containsExactly("hold");
+    }
+
+    @Test
+    void pastDeadlineIsReturnedOnNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, 3, 1000);
+        wheel.schedule("late", 900);
+        wheel.schedule("now", 1000);
+
+        assertThat(wheel.advanceTo(1000)).containsExactlyInAnyOrder("late", "now");
+        assertThat(wheel.size()).isZero();
+    }
+
+    // wheelSize 4, 3 레벨 - 레벨 경계(4, 16, 64 틱)와 최대 구간을 넘는 만료 시각을 포함해 1ms 씩 진행
+    @Test
+    void everyDeadlineFiresAtFirstTickNotBeforeItAcrossCascades() {
+        long start = 37;     // 틱 경계에 맞지 않는 시작 시각
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 4, 3, start);
+        for (long deadline = start; deadline <= start + 100 * TICK; deadline += 7) {
+            wheel.schedule(deadline, deadline);
+        }
+        int scheduled = wheel.size();
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = start; now <= start + 110 * TICK; now++) {
+            for (Long deadline : wheel.advanceTo(now)) {
+                assertThat(firedAt.put(deadline, now)).as("중복 만료: %d", deadline).isNull();
+            }
+        }
+
+        assertThat(firedAt).hasSize(scheduled);
+        assertThat(wheel.size()).isZero();
+        firedAt.forEach((deadline, now) -> {
+            assertThat(now).as("만료 시각 %d", deadline).isGreaterThanOrEqualTo(deadline);
+            assertThat(now).as("만료 시각 %d", deadline).isEqualTo(Math.max(start, Math.ceilDiv(deadline, TICK) * TICK));
+        });
+    }
+
+    @Test
+    void scheduleAfterAdvanceUsesCurrentPosition() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, 3, 0);
+        wheel.advanceTo(635);
+        wheel.schedule("hold", 641);
+
+        assertThat(wheel.advanceTo(649)).isEmpty();
+        List<String> expired = wheel.advanceTo(650);
+        assertThat(expired).containsExactly("hold");
+    }
+}
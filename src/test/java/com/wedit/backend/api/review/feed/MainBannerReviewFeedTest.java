@@ -0,0 +1,92 @@
+package com.wedit.backend.api.review.feed;
+
+import com.wedit.backend.api.review.dto.ReviewMainBannerResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MainBannerReviewFeedTest {
+
+    private final MainBannerReviewFeed feed = new MainBannerReviewFeed(10);
+
+    @Test
+    void changesRecordedDuringRebuildAreReplayedOntoNewBuffer() {
+        feed.beginRebuild();
+        feed.markCounted();
+        feed.recordCreated(banner(3L));     // 조회 이후 커밋 - DB 건수/최신 목록에 없음
+        feed.recordDeleted(1L);             // 조회 이후 삭제 - DB 건수/최신 목록에는 있음
+
+        feed.publishRebuilt(List.of(banner(2L), banner(1L)), 2);
+
+        MainBannerReviewFeed.Snapshot snapshot = feed.read(0, 10);
+        assertThat(reviewIds(snapshot)).containsExactly(3L, 2L);
+        assertThat(snapshot.totalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void changesRecordedBeforeCountAreNotCountedTwice() {
+        feed.beginRebuild();
+        feed.recordCreated(banner(3L));     // 조회 전 커밋 - DB 건수에 이미 포함
+        feed.markCounted();
+
+        feed.publishRebuilt(List.of(banner(3L), banner(2L), banner(1L)), 3);
+
+        MainBannerReviewFeed.Snapshot snapshot = feed.read(0, 10);
+        assertThat(reviewIds(snapshot)).containsExactly(3L, 2L, 1L);
+        assertThat(snapshot.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void createAlreadyInRebuiltListIsCountedOnce() {
+        feed.beginRebuild();
+        feed.markCounted();
+        feed.recordCreated(banner(3L));     // 건수 조회 이후 커밋되었지만 최신 목록 조회에는 포함
+
+        feed.publishRebuilt(List.of(banner(3L), banner(2L), banner(1L)), 3);
+
+        MainBannerReviewFeed.Snapshot snapshot = feed.read(0, 10);
+        assertThat(reviewIds(snapshot)).containsExactly(3L, 2L, 1L);
+        assertThat(snapshot.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void repeatedDeleteIsCountedOnce() {
+        feed.beginRebuild();
+        feed.markCounted();
+        feed.publishRebuilt(List.of(banner(2L), banner(1L)), 2);
+
+        feed.recordDeleted(2L);
+        feed.recordDeleted(2L);
+
+        MainBannerReviewFeed.Snapshot snapshot = feed.read(0, 10);
+        assertThat(reviewIds(snapshot)).containsExactly(1L);
+        assertThat(snapshot.totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedReviewIsNotReinsertedByLateCreate() {
+        feed.beginRebuild();
+        feed.markCounted();
+        feed.recordDeleted(3L);
+        feed.recordCreated(banner(3L));
+
+        feed.publishRebuilt(List.of(banner(1L)), 1);
+
+        assertThat(reviewIds(feed.read(0, 10))).containsExactly(1L);
+    }
+
+    private static List<Long> reviewIds(MainBannerReviewFeed.Snapshot snapshot) {
+        return snapshot.content().stream().map(ReviewMainBannerResponseDTO::getReviewId).toList();
+    }
+
+    private static ReviewMainBannerResponseDTO banner(Long reviewId) {
+        return ReviewMainBannerResponseDTO.builder()
+                .reviewId(reviewId)
+                .vendorName("업체")
+                .content("후기 " + reviewId)
+                .rating(5)
+                .build();
+    }
+}